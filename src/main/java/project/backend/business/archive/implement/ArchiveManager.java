@@ -2,6 +2,7 @@ package project.backend.business.archive.implement;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import project.backend.business.post.implement.PostVersionManager;
 import project.backend.common.error.CustomException;
 import project.backend.common.error.ErrorCode;
 import project.backend.entity.archive.Archive;
@@ -15,6 +16,7 @@ public class ArchiveManager {
   private static final int MAX_ARCHIVES = 20;
 
   private final ArchiveRepository archiveRepository;
+  private final PostVersionManager postVersionManager;
 
   public Archive createArchive(User user, String name) {
     validateArchiveCount(user);
@@ -24,6 +26,7 @@ public class ArchiveManager {
 
   public Archive updateArchiveName(Archive archive, String newName) {
     archive.updateName(newName);
+    postVersionManager.bumpArchiveAfterCommit(archive.getUser().getId());
     return archiveRepository.save(archive);
   }
 
@@ -35,6 +38,7 @@ public class ArchiveManager {
 
   public void deleteArchive(Archive archive) {
     archive.setActivated(Boolean.FALSE);
+    postVersionManager.bumpArchiveAfterCommit(archive.getUser().getId());
     archiveRepository.save(archive);
   }
 
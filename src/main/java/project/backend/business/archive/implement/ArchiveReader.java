@@ -18,12 +18,13 @@ public class ArchiveReader {
     if (archiveId == null) {
       return null;
     }
-    return archiveRepository.findByIdAndActivatedTrue(archiveId)
-                            .orElseThrow(() -> new CustomException(ErrorCode.BAD_REQUEST));
+    return readActivatedArchiveById(archiveId);
   }
 
+  // 2차 캐시를 타도록 id 로 조회한 뒤 활성 여부 확인
   public Archive readActivatedArchiveById(Long archiveId) {
-    return archiveRepository.findByIdAndActivatedTrue(archiveId)
+    return archiveRepository.findById(archiveId)
+                            .filter(Archive::getActivated)
                             .orElseThrow(() -> new CustomException(ErrorCode.BAD_REQUEST));
   }
 
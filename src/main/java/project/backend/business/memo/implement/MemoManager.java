@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import project.backend.business.post.implement.PostVersionManager;
 import project.backend.entity.post.Post;
 import project.backend.repository.post.PostRepository;
 
@@ -13,14 +14,18 @@ import project.backend.repository.post.PostRepository;
 public class MemoManager {
 
   private final PostRepository postRepository;
+  private final PostVersionManager postVersionManager;
 
+  // 상세 응답에 메모가 포함되므로 변경 시 버전 스탬프 증가
   public void createUpdateMemo(Post post, String content) {
     post.updatePostMemo(content, LocalDateTime.now());
     postRepository.save(post);
+    postVersionManager.bumpPostAfterCommit(post.getUser().getId(), post.getId());
   }
 
   public void deleteMemo(Post post) {
     post.updatePostMemo(null, null);
     postRepository.save(post);
+    postVersionManager.bumpPostAfterCommit(post.getUser().getId(), post.getId());
   }
 }
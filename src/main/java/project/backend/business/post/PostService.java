@@ -1,32 +1,56 @@
 package project.backend.business.post;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import project.backend.business.post.implement.PostCountManager;
+import project.backend.business.post.implement.PostDraftManager;
 import project.backend.business.post.implement.PostManager;
 import project.backend.business.post.implement.PostReader;
+import project.backend.business.post.implement.PostReuseManager;
+import project.backend.business.post.implement.PostSearchSnapshotManager;
+import project.backend.business.post.implement.PostVersionManager;
+import project.backend.business.post.implement.SummaryBatchManager;
+import project.backend.business.post.implement.SummaryJobManager;
 import project.backend.business.post.implement.SummaryManager;
+import project.backend.business.post.implement.SummaryStreamListener;
+import project.backend.business.post.implement.SummaryStreamManager;
 import project.backend.business.post.request.CreatePostServiceRequest;
 import project.backend.business.post.request.PostDetailServiceRequest;
 import project.backend.business.post.request.PostListServiceRequest;
+import project.backend.business.post.request.PostSearchServiceRequest;
 import project.backend.business.post.request.UpdatePostServiceRequest;
+import project.backend.business.post.response.BatchCreatePostResponse;
 import project.backend.business.post.response.CreateUpdatePostResponse;
 import project.backend.business.post.response.PostCountResponse;
 import project.backend.business.post.response.PostDetailResponse;
 import project.backend.business.post.response.PostListResponse;
+import project.backend.business.post.response.PostSearchResponse;
+import project.backend.business.post.response.SummaryJobResponse;
+import project.backend.business.post.response.dto.BatchCreatePostDto;
+import project.backend.business.post.response.dto.BatchSummaryResultDto;
 import project.backend.business.post.response.dto.PostDetailDto;
 import project.backend.business.post.response.dto.PostListDto;
 import project.backend.business.post.response.dto.SummaryResultDto;
+import project.backend.business.post.util.HashGenerator;
+import project.backend.business.post.util.SearchCursor;
+import project.backend.business.post.util.SearchCursorCodec;
+import project.backend.business.tag.implement.TagReader;
 import project.backend.business.user.implement.UserReader;
 import project.backend.common.error.CustomException;
 import project.backend.common.error.ErrorCode;
+import project.backend.entity.job.SummaryJob;
 import project.backend.entity.post.Post;
+import project.backend.entity.post.PostDraft;
+import project.backend.entity.post.PostStatus;
 import project.backend.entity.user.User;
 import project.backend.repository.post.PostSpecification;
 
@@ -36,59 +60,218 @@ import project.backend.repository.post.PostSpecification;
 public class PostService {
 
   private static final int PAGE_SIZE = 10;
+  private static final int SEARCH_RESULT_LIMIT = 200;
 
   private final UserReader userReader;
+  private final TagReader tagReader;
   private final PostReader postReader;
   private final PostManager postManager;
+  private final PostReuseManager postReuseManager;
   private final SummaryManager summaryManager;
+  private final PostDraftManager postDraftManager;
+  private final PostCountManager postCountManager;
+  private final PostVersionManager postVersionManager;
+  private final PostSearchSnapshotManager postSearchSnapshotManager;
+  private final SummaryJobManager summaryJobManager;
+  private final SummaryStreamManager summaryStreamManager;
+  private final SummaryBatchManager summaryBatchManager;
+  private final TransactionTemplate transactionTemplate;
 
   @Transactional(readOnly = true)
   public PostListResponse getPosts(Long userId, PostListServiceRequest postListServiceRequest) {
+    List<Long> tagIdList = null;
+    if (postListServiceRequest.getTagName() != null) {
+      tagIdList = tagReader.readTagIdsByName(postListServiceRequest.getTagName());
+      if (tagIdList.isEmpty()) {
+        return PostListResponse.of(List.of(), PAGE_SIZE);
+      }
+    }
+
     Specification<Post> spec =
         Specification.where(PostSpecification.getUser(userId))
+                     .and(PostSpecification.getIdLessThan(postListServiceRequest.getCursor()))
                      .and(PostSpecification.getArchive(postListServiceRequest.getArchiveId()))
                      .and(PostSpecification.getSearch(postListServiceRequest.getSearch()))
+                     .and(PostSpecification.getTagIn(tagIdList))
                      .and(PostSpecification.getPublished())
                      .and(PostSpecification.getActivated());
 
-    PageRequest pageRequest = PageRequest.of(postListServiceRequest.getPage(), PAGE_SIZE,
-        Sort.by("id").descending());
+    List<PostListDto> postListDtos = postReader.readPostsWithTags(spec, PAGE_SIZE + 1);
 
-    List<PostListDto> postListDtos = postReader.readPostsWithTags(spec, pageRequest);
-
-    return PostListResponse.from(postListDtos);
+    return PostListResponse.of(postListDtos, PAGE_SIZE);
   }
 
+  // 제목/본문 전문 검색. 첫 페이지에서 관련도 순 결과를 상위 SEARCH_RESULT_LIMIT 건까지 고정해 두고
+  // 다음 페이지는 그 목록에서 읽어 점수가 바뀌어도 중복/누락이 없도록 함
   @Transactional(readOnly = true)
-  public PostCountResponse getTotalPostCount(Long userId) {
-    int count = postReader.readActivatePostCountByUserId(userId);
+  public PostSearchResponse searchPosts(Long userId,
+      PostSearchServiceRequest postSearchServiceRequest) {
+    SearchCursor cursor = postSearchServiceRequest.getCursor();
+    String searchId;
+    int offset;
+    List<Long> postIds;
+    if (cursor == null) {
+      List<Long> hitIds = postReader.readSearchHitIds(userId,
+          postSearchServiceRequest.getKeyword(), SEARCH_RESULT_LIMIT);
+      searchId = hitIds.size() > PAGE_SIZE
+          ? postSearchSnapshotManager.saveSnapshot(userId, hitIds) : null;
+      offset = 0;
+      postIds = hitIds.subList(0, Math.min(hitIds.size(), PAGE_SIZE + 1));
+    } else {
+      searchId = cursor.searchId();
+      offset = cursor.offset();
+      postIds = postSearchSnapshotManager.readPostIds(userId, searchId, offset, PAGE_SIZE + 1);
+    }
+
+    boolean hasNext = searchId != null && postIds.size() > PAGE_SIZE;
+    List<PostListDto> postListDtos = postReader.readPostsWithTagsByIds(userId,
+        hasNext ? postIds.subList(0, PAGE_SIZE) : postIds);
+
+    String nextCursor = hasNext
+        ? SearchCursorCodec.encode(new SearchCursor(searchId, offset + PAGE_SIZE)) : null;
+    return PostSearchResponse.of(postListDtos, nextCursor);
+  }
+
+  // redis 카운터 조회. 카운터가 없을 때만 DB 에서 집계하므로 트랜잭션으로 묶지 않음
+  public PostCountResponse getTotalPostCount(Long userId, Long archiveId) {
+    int count = postCountManager.readPostCount(userId, archiveId);
     return PostCountResponse.from(count);
   }
 
+  // 목록 ETag: 사용자 버전 스탬프 + 조회 조건. 게시글을 읽기 전에 계산하여 변경이 없으면 304 로 응답
+  public String getPostListETag(Long userId, PostListServiceRequest postListServiceRequest) {
+    String version = postVersionManager.readListVersion(userId);
+    if (version == null) {
+      return null;
+    }
+    return "\"" + HashGenerator.sha256Hex(String.join(":", "list", String.valueOf(userId),
+        version, Objects.toString(postListServiceRequest.getCursor(), ""),
+        Objects.toString(postListServiceRequest.getArchiveId(), ""),
+        Objects.toString(postListServiceRequest.getSearch(), ""),
+        Objects.toString(postListServiceRequest.getTagName(), ""))) + "\"";
+  }
+
+  // 상세 ETag: 게시글 버전 스탬프 + 보관함 버전 스탬프. 비로그인 임시 저장본은 대상 아님
+  public String getPostDetailETag(Long userId, PostDetailServiceRequest postDetailServiceRequest) {
+    if (userId == null || PostDraft.isDraftId(postDetailServiceRequest.getPostId())) {
+      return null;
+    }
+    String version = postVersionManager.readDetailVersion(userId,
+        postDetailServiceRequest.getPostId());
+    if (version == null) {
+      return null;
+    }
+    return "\"" + HashGenerator.sha256Hex(String.join(":", "detail", String.valueOf(userId),
+        String.valueOf(postDetailServiceRequest.getPostId()), version,
+        String.valueOf(postDetailServiceRequest.getStatus()))) + "\"";
+  }
+
   @Transactional(readOnly = true)
   public PostDetailResponse getPostDetail(Long userId,
       PostDetailServiceRequest postDetailServiceRequest) {
-    PostDetailDto postDetailDto = postReader.readPostDetailWithTags(userId,
-        postDetailServiceRequest);
+    PostDetailDto postDetailDto = PostDraft.isDraftId(postDetailServiceRequest.getPostId())
+        ? readDraftDetail(postDetailServiceRequest)
+        : postReader.readPostDetailWithTags(userId, postDetailServiceRequest);
 
     return PostDetailResponse.from(postDetailDto);
   }
 
-  @Transactional
+  // 모델 호출 동안 DB 커넥션을 잡고 있지 않도록 요약은 트랜잭션 밖에서 수행하고 저장만 짧게 트랜잭션으로 묶음
   public CreateUpdatePostResponse createPostDetail(Long userId,
       CreatePostServiceRequest createPostServiceRequest) {
+    Optional<Post> reusedPost = postReuseManager.reusePost(userId, createPostServiceRequest);
+    if (reusedPost.isPresent()) {
+      return CreateUpdatePostResponse.from(reusedPost.get());
+    }
+
     SummaryResultDto summaryResultDto = summaryManager.summarize(createPostServiceRequest);
-    User user = userReader.readUserByIdOrNull(userId);
-    Post post = postManager.createPost(user, createPostServiceRequest.getUrl(), summaryResultDto);
 
-    return CreateUpdatePostResponse.from(post);
+    // 비로그인 요약은 redis 임시 저장본으로 보관
+    if (userId == null) {
+      Long draftId = postDraftManager.createDraft(createPostServiceRequest, summaryResultDto);
+      return CreateUpdatePostResponse.from(draftId);
+    }
+
+    Post post = transactionTemplate.execute(status -> {
+      User user = userReader.readUserByIdOrNull(userId);
+      return postManager.createPost(user, createPostServiceRequest, summaryResultDto);
+    });
+
+    return CreateUpdatePostResponse.from(Objects.requireNonNull(post));
+  }
+
+  // 재사용할 게시글이 있는 URL 은 건너뛰고 나머지만 트랜잭션 밖에서 병렬로 요약한 뒤,
+  // 성공한 게시글만 하나의 트랜잭션으로 저장
+  public BatchCreatePostResponse createPostDetails(Long userId,
+      List<CreatePostServiceRequest> createPostServiceRequests) {
+    List<Post> reusedPosts = postReuseManager.reusePosts(userId, createPostServiceRequests);
+    List<CreatePostServiceRequest> summaryRequests = new ArrayList<>();
+    for (int i = 0; i < createPostServiceRequests.size(); i++) {
+      if (reusedPosts.get(i) == null) {
+        summaryRequests.add(createPostServiceRequests.get(i));
+      }
+    }
+
+    List<BatchSummaryResultDto> summaryResults = summaryBatchManager.summarizeAll(summaryRequests);
+
+    List<Long> postIds = transactionTemplate.execute(status -> {
+      User user = userReader.readUserById(userId);
+      return postManager.createPosts(user, summaryResults);
+    });
+
+    Iterator<BatchSummaryResultDto> summaryResultIterator = summaryResults.iterator();
+    Iterator<Long> postIdIterator = Objects.requireNonNull(postIds).iterator();
+    List<BatchCreatePostDto> results = new ArrayList<>();
+    for (int i = 0; i < createPostServiceRequests.size(); i++) {
+      Post reusedPost = reusedPosts.get(i);
+      if (reusedPost != null) {
+        results.add(BatchCreatePostDto.builder()
+                                      .url(createPostServiceRequests.get(i).getUrl())
+                                      .success(true)
+                                      .postId(reusedPost.getId())
+                                      .build());
+        continue;
+      }
+
+      BatchSummaryResultDto summaryResult = summaryResultIterator.next();
+      results.add(summaryResult.isSuccess()
+          ? BatchCreatePostDto.builder()
+                              .url(summaryResult.getUrl())
+                              .success(true)
+                              .postId(postIdIterator.next())
+                              .build()
+          : BatchCreatePostDto.builder()
+                              .url(summaryResult.getUrl())
+                              .success(false)
+                              .message(summaryResult.getErrorMessage())
+                              .build());
+    }
+    return BatchCreatePostResponse.from(results);
+  }
+
+  public SummaryJobResponse createPostDetailAsync(Long userId,
+      CreatePostServiceRequest createPostServiceRequest) {
+    SummaryJob job = summaryJobManager.submitJob(userId, createPostServiceRequest);
+    return SummaryJobResponse.from(job);
+  }
+
+  public void createPostDetailStream(Long userId,
+      CreatePostServiceRequest createPostServiceRequest, SummaryStreamListener listener) {
+    summaryStreamManager.streamSummary(userId, createPostServiceRequest, listener);
+  }
+
+  public SummaryJobResponse getSummaryJob(Long userId, String jobId) {
+    SummaryJob job = summaryJobManager.readJob(userId, jobId);
+    return SummaryJobResponse.from(job);
   }
 
   @Transactional
   public CreateUpdatePostResponse updatePostDetail(Long userId, Long postId,
       UpdatePostServiceRequest updatePostServiceRequest) {
     User user = userReader.readUserById(userId);
-    Post post = postReader.readActivatedPostAndWriter(postId);
+    Post post = PostDraft.isDraftId(postId)
+        ? promoteDraft(user, postId)
+        : postReader.readActivatedPostAndWriter(postId);
     Post updatedPost = postManager.updatePost(user, post, updatePostServiceRequest);
 
     return CreateUpdatePostResponse.from(updatedPost);
@@ -100,19 +283,43 @@ public class PostService {
     postManager.deletePost(post);
   }
 
-  @Transactional
+  // 조회/권한 확인 -> 요약(트랜잭션 밖) -> 저장 순으로 나누고, 저장 직전에 게시글 상태를 다시 확인
   public CreateUpdatePostResponse updateSummaryPost(Long userId, Long postId,
       CreatePostServiceRequest createPostServiceRequest) {
-    Post post = postReader.readActivatedPostAndWriter(postId);
+    Post post = transactionTemplate.execute(status -> readOwnedPost(userId, postId));
 
-    if (!Objects.equals(post.getUser().getId(), userId)) {
+    SummaryResultDto summaryResultDto = summaryManager.resummarize(Objects.requireNonNull(post),
+        createPostServiceRequest);
+
+    Post updatedPost = transactionTemplate.execute(status -> {
+      Post currentPost = readOwnedPost(userId, postId);
+      return postManager.updateSummary(currentPost, createPostServiceRequest, summaryResultDto);
+    });
+
+    return CreateUpdatePostResponse.from(Objects.requireNonNull(updatedPost));
+  }
+
+  private PostDetailDto readDraftDetail(PostDetailServiceRequest postDetailServiceRequest) {
+    if (postDetailServiceRequest.getStatus() != PostStatus.DRAFT) {
       throw new CustomException(ErrorCode.BAD_REQUEST);
     }
+    PostDraft draft = postDraftManager.readDraft(postDetailServiceRequest.getPostId());
+    return postReader.readDraftDetail(draft);
+  }
 
-    SummaryResultDto summaryResultDto = summaryManager.summarize(createPostServiceRequest);
-    Post updatedPost = postManager.updateSummary(post, createPostServiceRequest.getUrl(),
-        summaryResultDto);
+  private Post promoteDraft(User user, Long draftId) {
+    PostDraft draft = postDraftManager.readDraft(draftId);
+    Post post = postManager.createPostFromDraft(user, draft);
+    postDraftManager.deleteDraftAfterCommit(draftId);
+    return post;
+  }
 
-    return CreateUpdatePostResponse.from(updatedPost);
+  private Post readOwnedPost(Long userId, Long postId) {
+    Post post = postReader.readActivatedPostAndWriter(postId);
+
+    if (!Objects.equals(post.getUser().getId(), userId)) {
+      throw new CustomException(ErrorCode.BAD_REQUEST);
+    }
+    return post;
   }
 }
@@ -0,0 +1,239 @@
+package project.backend.business.post.implement;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.Inet4Address;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.nio.charset.Charset;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.DnsResolver;
+import org.apache.hc.client5.http.SystemDefaultDnsResolver;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import project.backend.business.post.response.dto.PageContentDto;
+import project.backend.business.post.util.CharsetDetector;
+import project.backend.business.post.util.ContentExtractor;
+import project.backend.business.post.util.LocalLruCache;
+import project.backend.business.post.util.UrlNormalizer;
+
+// 요약 전에 웹 페이지를 직접 받아 본문만 추출
+// ETag/Last-Modified 로 재검증하는 페이지 캐시를 두어 같은 페이지를 다시 받지 않도록 함
+@Slf4j
+@Component
+public class PageFetcher {
+
+  private static final int MAX_REDIRECTS = 5;
+  private static final String USER_AGENT = "Mozilla/5.0 (compatible; SomeupBot/1.0; +https://www.someup.site)";
+  private static final String ACCEPT = "text/html,application/xhtml+xml,text/plain;q=0.9,*/*;q=0.1";
+
+  private final CloseableHttpClient httpClient;
+  private final LocalLruCache<String, CachedPage> pageCache;
+  private final int maxBytes;
+  private final long freshMillis;
+
+  public PageFetcher(
+      @Value("${summary.fetch.connect-timeout-millis:3000}") long connectTimeoutMillis,
+      @Value("${summary.fetch.read-timeout-millis:10000}") long readTimeoutMillis,
+      @Value("${summary.fetch.max-bytes:2097152}") int maxBytes,
+      @Value("${summary.fetch.cache.max-size:500}") int cacheMaxSize,
+      @Value("${summary.fetch.cache.ttl:86400}") long cacheTtlSeconds,
+      @Value("${summary.fetch.cache.fresh-seconds:300}") long freshSeconds,
+      @Value("${summary.fetch.allow-private-hosts:false}") boolean allowPrivateHosts) {
+    ConnectionConfig connectionConfig = ConnectionConfig.custom()
+                                                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMillis))
+                                                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+                                                        .build();
+    // 커넥션은 풀링하고, 연결할 주소는 검증을 통과한 DNS 해석 결과로만 한정
+    // (검증 후 다시 해석하는 사이 DNS 응답이 바뀌는 DNS rebinding 방지)
+    PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                                                                                                    .setDnsResolver(new PublicAddressDnsResolver(allowPrivateHosts))
+                                                                                                    .setDefaultConnectionConfig(connectionConfig)
+                                                                                                    .build();
+    this.httpClient = HttpClients.custom()
+                                 .setConnectionManager(connectionManager)
+                                 .setDefaultRequestConfig(RequestConfig.custom()
+                                                                       .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+                                                                       .build())
+                                 .setUserAgent(USER_AGENT)
+                                 .disableRedirectHandling()
+                                 .disableCookieManagement()
+                                 .build();
+    this.pageCache = new LocalLruCache<>(cacheMaxSize, Duration.ofSeconds(cacheTtlSeconds));
+    this.maxBytes = maxBytes;
+    this.freshMillis = Duration.ofSeconds(freshSeconds).toMillis();
+  }
+
+  // 본문을 얻지 못하면 empty 를 반환하고, 호출 측은 URL 만으로 요약
+  public Optional<PageContentDto> fetch(String url) {
+    String cacheKey = UrlNormalizer.normalize(url);
+    CachedPage cachedPage = pageCache.get(cacheKey).orElse(null);
+    if (cachedPage != null && cachedPage.isFresh(System.currentTimeMillis(), freshMillis)) {
+      return Optional.of(cachedPage.content());
+    }
+
+    try (ClassicHttpResponse response = send(URI.create(url), cachedPage)) {
+      if (response.getCode() == 304 && cachedPage != null) {
+        pageCache.put(cacheKey, cachedPage.revalidated(System.currentTimeMillis()));
+        return Optional.of(cachedPage.content());
+      }
+      if (response.getCode() != 200 || response.getEntity() == null) {
+        log.info("[PageFetcher] 페이지 응답 실패. url: {}, status: {}", url, response.getCode());
+        return Optional.empty();
+      }
+
+      String contentType = Optional.ofNullable(headerValue(response, HttpHeaders.CONTENT_TYPE))
+                                   .orElse("text/html");
+      if (!isTextContent(contentType)) {
+        return Optional.empty();
+      }
+
+      try (InputStream body = response.getEntity().getContent()) {
+        byte[] bytes = body.readNBytes(maxBytes);
+        Charset charset = CharsetDetector.detect(contentType, bytes);
+        String document = new String(bytes, charset);
+        PageContentDto content = contentType.toLowerCase(Locale.ROOT).startsWith("text/plain")
+            ? ContentExtractor.extractFromText(document)
+            : ContentExtractor.extractFromHtml(document, url);
+
+        if (content.getText().isBlank()) {
+          return Optional.empty();
+        }
+
+        pageCache.put(cacheKey, new CachedPage(content,
+            headerValue(response, HttpHeaders.ETAG),
+            headerValue(response, HttpHeaders.LAST_MODIFIED),
+            System.currentTimeMillis()));
+        return Optional.of(content);
+      }
+    } catch (IOException | IllegalArgumentException e) {
+      log.info("[PageFetcher] 페이지 조회 실패. url: {}, errMsg: {}", url, e.getMessage());
+      return Optional.empty();
+    }
+  }
+
+  // 리다이렉트를 직접 따라가며 매 단계 scheme 을 검사 (주소 검사는 DNS 해석 시점에 수행)
+  private ClassicHttpResponse send(URI uri, CachedPage cachedPage) throws IOException {
+    URI current = uri;
+    for (int redirects = 0; redirects <= MAX_REDIRECTS; redirects++) {
+      validateUri(current);
+
+      HttpGet request = new HttpGet(current);
+      request.setHeader(HttpHeaders.ACCEPT, ACCEPT);
+      if (cachedPage != null && cachedPage.etag() != null) {
+        request.setHeader(HttpHeaders.IF_NONE_MATCH, cachedPage.etag());
+      }
+      if (cachedPage != null && cachedPage.lastModified() != null) {
+        request.setHeader(HttpHeaders.IF_MODIFIED_SINCE, cachedPage.lastModified());
+      }
+
+      ClassicHttpResponse response = httpClient.executeOpen(null, request, null);
+      if (!isRedirect(response.getCode())) {
+        return response;
+      }
+
+      String location = headerValue(response, HttpHeaders.LOCATION);
+      EntityUtils.consume(response.getEntity());
+      response.close();
+      if (location == null) {
+        throw new IOException("Location 헤더가 없는 리다이렉트");
+      }
+      current = current.resolve(location);
+    }
+    throw new IOException("리다이렉트 횟수 초과");
+  }
+
+  private static void validateUri(URI uri) throws IOException {
+    String scheme = uri.getScheme() == null ? "" : uri.getScheme().toLowerCase(Locale.ROOT);
+    if (!scheme.equals("http") && !scheme.equals("https")) {
+      throw new IOException("지원하지 않는 scheme: " + scheme);
+    }
+    if (uri.getHost() == null) {
+      throw new IOException("host 가 없는 URL");
+    }
+  }
+
+  private static String headerValue(ClassicHttpResponse response, String name) {
+    Header header = response.getFirstHeader(name);
+    return header == null ? null : header.getValue();
+  }
+
+  // 루프백, 사설망, 링크 로컬, 멀티캐스트, IPv6 ULA(fc00::/7), CGNAT(100.64.0.0/10) 차단
+  static boolean isPrivateAddress(InetAddress address) {
+    if (address.isAnyLocalAddress() || address.isLoopbackAddress()
+        || address.isSiteLocalAddress() || address.isLinkLocalAddress()
+        || address.isMulticastAddress()) {
+      return true;
+    }
+    byte[] bytes = address.getAddress();
+    if (address instanceof Inet6Address) {
+      return (bytes[0] & 0xFE) == 0xFC;
+    }
+    return address instanceof Inet4Address
+        && (bytes[0] & 0xFF) == 100 && (bytes[1] & 0xC0) == 64;
+  }
+
+  private static boolean isRedirect(int statusCode) {
+    return statusCode == 301 || statusCode == 302 || statusCode == 303 || statusCode == 307
+        || statusCode == 308;
+  }
+
+  private static boolean isTextContent(String contentType) {
+    String lowerContentType = contentType.toLowerCase(Locale.ROOT);
+    return lowerContentType.startsWith("text/html")
+        || lowerContentType.startsWith("application/xhtml+xml")
+        || lowerContentType.startsWith("text/plain");
+  }
+
+  // 커넥션이 실제로 사용할 주소를 해석하면서 검증하므로 검사한 주소와 연결한 주소가 항상 같음
+  private record PublicAddressDnsResolver(boolean allowPrivateHosts) implements DnsResolver {
+
+    @Override
+    public InetAddress[] resolve(String host) throws UnknownHostException {
+      InetAddress[] addresses = SystemDefaultDnsResolver.INSTANCE.resolve(host);
+      if (allowPrivateHosts) {
+        return addresses;
+      }
+      for (InetAddress address : addresses) {
+        if (isPrivateAddress(address)) {
+          throw new UnknownHostException("내부망 주소로의 요청은 허용되지 않습니다: " + host);
+        }
+      }
+      return addresses;
+    }
+
+    @Override
+    public String resolveCanonicalHostname(String host) throws UnknownHostException {
+      return SystemDefaultDnsResolver.INSTANCE.resolveCanonicalHostname(host);
+    }
+  }
+
+  private record CachedPage(PageContentDto content, String etag, String lastModified,
+                            long validatedAt) {
+
+    boolean isFresh(long now, long freshMillis) {
+      return now - validatedAt < freshMillis;
+    }
+
+    CachedPage revalidated(long now) {
+      return new CachedPage(content, etag, lastModified, now);
+    }
+  }
+}
@@ -0,0 +1,163 @@
+package project.backend.business.post.implement;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import project.backend.entity.post.PostStatus;
+import project.backend.repository.post.PostRepository;
+
+// 사용자별 발행 게시글 개수를 redis hash 로 관리 (필드: total, archive:{id})
+// 게시글 발행/삭제/보관함 이동이 커밋된 뒤에만 증감하고, 어긋난 값은 PostCountReconciler 가 주기적으로 보정
+@Slf4j
+@Component
+public class PostCountManager {
+
+  private static final String KEY_PREFIX = "post:count:";
+  private static final String TEMP_KEY_PREFIX = "post:count-tmp:";
+  private static final String TOTAL_FIELD = "total";
+  private static final String ARCHIVE_FIELD_PREFIX = "archive:";
+
+  private static final RedisScript<Long> INCREMENT_SCRIPT = RedisScript.of(
+      new ClassPathResource("scripts/post_count_increment.lua"), Long.class);
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final PostRepository postRepository;
+  private final Duration ttl;
+
+  public PostCountManager(StringRedisTemplate stringRedisTemplate,
+      PostRepository postRepository,
+      @Value("${post.count.ttl:604800}") long ttlSeconds) {
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.postRepository = postRepository;
+    this.ttl = Duration.ofSeconds(ttlSeconds);
+  }
+
+  // archiveId 가 없으면 전체 개수, 있으면 해당 보관함의 개수
+  public int readPostCount(Long userId, Long archiveId) {
+    String field = archiveId == null ? TOTAL_FIELD : ARCHIVE_FIELD_PREFIX + archiveId;
+    try {
+      Object count = stringRedisTemplate.opsForHash().get(KEY_PREFIX + userId, field);
+      if (count != null) {
+        return Integer.parseInt(count.toString());
+      }
+      if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(KEY_PREFIX + userId))) {
+        return 0;
+      }
+    } catch (DataAccessException e) {
+      log.warn("[PostCountManager] redis 조회 실패. userId: {}, errMsg: {}", userId,
+          e.getMessage());
+      return Integer.parseInt(countFromDatabase(userId).getOrDefault(field, "0"));
+    }
+
+    Map<String, String> counts = countFromDatabase(userId);
+    store(KEY_PREFIX + userId, counts);
+    return Integer.parseInt(counts.getOrDefault(field, "0"));
+  }
+
+  public void publishAfterCommit(Long userId, Long archiveId) {
+    List<String> deltas = new ArrayList<>(List.of(TOTAL_FIELD, "1"));
+    addArchiveDelta(deltas, archiveId, 1);
+    incrementAfterCommit(userId, deltas);
+  }
+
+  public void deleteAfterCommit(Long userId, Long archiveId) {
+    List<String> deltas = new ArrayList<>(List.of(TOTAL_FIELD, "-1"));
+    addArchiveDelta(deltas, archiveId, -1);
+    incrementAfterCommit(userId, deltas);
+  }
+
+  public void moveAfterCommit(Long userId, Long fromArchiveId, Long toArchiveId) {
+    if (fromArchiveId == null ? toArchiveId == null : fromArchiveId.equals(toArchiveId)) {
+      return;
+    }
+    List<String> deltas = new ArrayList<>();
+    addArchiveDelta(deltas, fromArchiveId, -1);
+    addArchiveDelta(deltas, toArchiveId, 1);
+    incrementAfterCommit(userId, deltas);
+  }
+
+  // 적재된 사용자 카운터를 DB 값으로 교체
+  // 임시 키에 쓴 뒤 rename 하여 조회 중인 요청이 빈 값을 보지 않도록 함
+  public void reconcile(Long userId) {
+    String tempKey = TEMP_KEY_PREFIX + userId;
+    store(tempKey, countFromDatabase(userId));
+    stringRedisTemplate.rename(tempKey, KEY_PREFIX + userId);
+  }
+
+  public List<Long> readLoadedUserIds() {
+    List<Long> userIds = new ArrayList<>();
+    ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(500).build();
+    try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+      cursor.forEachRemaining(key -> userIds.add(Long.parseLong(key.substring(KEY_PREFIX.length()))));
+    }
+    return userIds;
+  }
+
+  private void incrementAfterCommit(Long userId, List<String> deltas) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      increment(userId, deltas);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        increment(userId, deltas);
+      }
+    });
+  }
+
+  // 실패해도 게시글 변경은 이미 커밋되었으므로 로그만 남기고 보정 작업에 맡김
+  private void increment(Long userId, List<String> deltas) {
+    try {
+      stringRedisTemplate.execute(INCREMENT_SCRIPT, List.of(KEY_PREFIX + userId),
+          deltas.toArray());
+    } catch (DataAccessException e) {
+      log.warn("[PostCountManager] redis 증감 실패. userId: {}, errMsg: {}", userId,
+          e.getMessage());
+    }
+  }
+
+  private Map<String, String> countFromDatabase(Long userId) {
+    Map<String, String> counts = new HashMap<>();
+    long total = 0;
+    for (Object[] row : postRepository.countPostsGroupByArchiveId(userId, PostStatus.PUBLISHED)) {
+      long count = (Long) row[1];
+      total += count;
+      if (row[0] != null) {
+        counts.put(ARCHIVE_FIELD_PREFIX + row[0], String.valueOf(count));
+      }
+    }
+    counts.put(TOTAL_FIELD, String.valueOf(total));
+    return counts;
+  }
+
+  private void store(String key, Map<String, String> counts) {
+    try {
+      stringRedisTemplate.delete(key);
+      stringRedisTemplate.opsForHash().putAll(key, counts);
+      stringRedisTemplate.expire(key, ttl);
+    } catch (DataAccessException e) {
+      log.warn("[PostCountManager] redis 저장 실패. key: {}, errMsg: {}", key, e.getMessage());
+    }
+  }
+
+  private static void addArchiveDelta(List<String> deltas, Long archiveId, int delta) {
+    if (archiveId != null) {
+      deltas.add(ARCHIVE_FIELD_PREFIX + archiveId);
+      deltas.add(String.valueOf(delta));
+    }
+  }
+}
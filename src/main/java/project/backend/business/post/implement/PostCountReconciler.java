@@ -0,0 +1,56 @@
+package project.backend.business.post.implement;
+
+import java.time.Duration;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 커밋 후 증감 실패, 서버 종료 등으로 어긋난 게시글 개수 카운터를 DB 값으로 보정
+// 서버가 여러 대여도 한 대만 실행하도록 redis 락 사용
+@Slf4j
+@Component
+public class PostCountReconciler {
+
+  private static final String LOCK_KEY = "post:count-reconcile:lock";
+
+  private final PostCountManager postCountManager;
+  private final StringRedisTemplate stringRedisTemplate;
+  private final Duration lockTtl;
+
+  public PostCountReconciler(PostCountManager postCountManager,
+      StringRedisTemplate stringRedisTemplate,
+      @Value("${post.count.reconcile.lock-ttl:600}") long lockTtlSeconds) {
+    this.postCountManager = postCountManager;
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.lockTtl = Duration.ofSeconds(lockTtlSeconds);
+  }
+
+  @Scheduled(cron = "${post.count.reconcile.cron:0 0 4 * * *}")
+  public void reconcile() {
+    try {
+      if (!Boolean.TRUE.equals(
+          stringRedisTemplate.opsForValue().setIfAbsent(LOCK_KEY, "1", lockTtl))) {
+        return;
+      }
+      List<Long> userIds = postCountManager.readLoadedUserIds();
+      int failed = 0;
+      for (Long userId : userIds) {
+        try {
+          postCountManager.reconcile(userId);
+        } catch (RuntimeException e) {
+          failed++;
+          log.warn("[PostCountReconciler] 보정 실패. userId: {}, errMsg: {}", userId,
+              e.getMessage());
+        }
+      }
+      log.info("[PostCountReconciler] 게시글 개수 보정 완료. users: {}, failed: {}", userIds.size(),
+          failed);
+    } catch (DataAccessException e) {
+      log.warn("[PostCountReconciler] 보정 중단. errMsg: {}", e.getMessage());
+    }
+  }
+}
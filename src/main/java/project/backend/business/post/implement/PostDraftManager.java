@@ -0,0 +1,65 @@
+package project.backend.business.post.implement;
+
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import project.backend.business.post.request.CreatePostServiceRequest;
+import project.backend.business.post.response.dto.SummaryResultDto;
+import project.backend.business.post.util.HashGenerator;
+import project.backend.business.post.util.UrlNormalizer;
+import project.backend.common.error.CustomException;
+import project.backend.common.error.ErrorCode;
+import project.backend.entity.post.PostDraft;
+import project.backend.repository.post.PostDraftRedisRepository;
+
+@Component
+@RequiredArgsConstructor
+public class PostDraftManager {
+
+  private static final String SEQUENCE_KEY = "postDraft:sequence";
+
+  private final PostDraftRedisRepository postDraftRedisRepository;
+  private final StringRedisTemplate stringRedisTemplate;
+
+  public Long createDraft(CreatePostServiceRequest createPostServiceRequest,
+      SummaryResultDto summaryResultDto) {
+    Long sequence = stringRedisTemplate.opsForValue().increment(SEQUENCE_KEY);
+    if (sequence == null) {
+      throw new CustomException(ErrorCode.INVALID_SUMMARY);
+    }
+
+    PostDraft draft = PostDraft.builder()
+                               .id(-sequence)
+                               .title(summaryResultDto.getTitle())
+                               .content(summaryResultDto.getContent())
+                               .url(createPostServiceRequest.getUrl())
+                               .urlHash(UrlNormalizer.hash(createPostServiceRequest.getUrl()))
+                               .summaryLevel(createPostServiceRequest.getOption()
+                                                                     .getLevel()
+                                                                     .name())
+                               .summaryOptionHash(HashGenerator.sha256Hex(
+                                   createPostServiceRequest.getOption().toCanonicalString()))
+                               .createdAt(LocalDateTime.now())
+                               .build();
+
+    return postDraftRedisRepository.save(draft).getId();
+  }
+
+  public PostDraft readDraft(Long draftId) {
+    return postDraftRedisRepository.findById(draftId)
+                                   .orElseThrow(() -> new CustomException(ErrorCode.BAD_REQUEST));
+  }
+
+  // 게시글 저장이 롤백되면 임시 저장본이 남아 있어야 하므로 커밋 후에 삭제
+  public void deleteDraftAfterCommit(Long draftId) {
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        postDraftRedisRepository.deleteById(draftId);
+      }
+    });
+  }
+}
@@ -0,0 +1,44 @@
+package project.backend.business.post.implement;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import project.backend.repository.post.PostSearchRepository;
+import project.backend.repository.schema.SchemaIndexRepository;
+
+// 게시글이 많으면 FULLTEXT 인덱스 생성이 오래 걸리므로 별도 스레드에서 생성하여 기동을 막지 않음
+// 생성이 끝나기 전까지 검색은 LIKE 로 동작
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostFullTextIndexInitializer implements ApplicationRunner {
+
+  private final PostSearchRepository postSearchRepository;
+  private final SchemaIndexRepository schemaIndexRepository;
+
+  @Value("${post.search.fulltext-index.create-enabled:true}")
+  private boolean createEnabled;
+
+  @Override
+  public void run(ApplicationArguments args) {
+    Thread thread = new Thread(this::initialize, "post-fulltext-index");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  private void initialize() {
+    try {
+      if (!schemaIndexRepository.isMysql() || postSearchRepository.detectFullTextIndex()
+          || !createEnabled) {
+        return;
+      }
+      postSearchRepository.createFullTextIndex();
+    } catch (RuntimeException e) {
+      log.warn("[PostFullTextIndexInitializer] FULLTEXT 인덱스 생성 실패. errMsg: {}",
+          e.getMessage());
+    }
+  }
+}
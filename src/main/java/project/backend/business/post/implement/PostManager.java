@@ -1,16 +1,24 @@
 package project.backend.business.post.implement;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import project.backend.business.archive.implement.ArchiveReader;
+import project.backend.business.post.request.CreatePostServiceRequest;
 import project.backend.business.post.request.UpdatePostServiceRequest;
+import project.backend.business.post.request.summary.SummaryOption;
+import project.backend.business.post.response.dto.BatchSummaryResultDto;
 import project.backend.business.post.response.dto.SummaryResultDto;
+import project.backend.business.post.util.HashGenerator;
+import project.backend.business.post.util.UrlNormalizer;
 import project.backend.business.tag.implement.TagManager;
 import project.backend.entity.archive.Archive;
 import project.backend.entity.post.Post;
+import project.backend.entity.post.PostDraft;
 import project.backend.entity.post.PostStatus;
 import project.backend.entity.user.User;
+import project.backend.repository.post.PostBulkInsertRepository;
 import project.backend.repository.post.PostRepository;
 
 @Component
@@ -18,24 +26,81 @@ import project.backend.repository.post.PostRepository;
 public class PostManager {
 
   private final PostRepository postRepository;
+  private final PostBulkInsertRepository postBulkInsertRepository;
   private final TagManager tagManager;
   private final ArchiveReader archiveReader;
+  private final PostCountManager postCountManager;
+  private final PostVersionManager postVersionManager;
 
-
-  public Post createPost(User user, String url, SummaryResultDto summaryResultDto) {
+  public Post createPost(User user, CreatePostServiceRequest createPostServiceRequest,
+      SummaryResultDto summaryResultDto) {
     Post newPost = Post.createPost(user, summaryResultDto.getTitle(), summaryResultDto.getContent(),
-        PostStatus.DRAFT, url);
+        PostStatus.DRAFT, createPostServiceRequest.getUrl());
+    updateSummarySource(newPost, createPostServiceRequest.getUrl(),
+        createPostServiceRequest.getOption());
+
+    return postRepository.save(newPost);
+  }
+
+  // 비로그인 요약 임시 저장본을 발행할 때 게시글로 옮김
+  public Post createPostFromDraft(User user, PostDraft draft) {
+    Post newPost = Post.createPost(user, draft.getTitle(), draft.getContent(), PostStatus.DRAFT,
+        draft.getUrl());
+    newPost.updateSummarySource(draft.getUrlHash(), draft.getSummaryLevel(),
+        draft.getSummaryOptionHash());
 
     return postRepository.save(newPost);
   }
 
+  // 같은 URL, 같은 옵션으로 이미 요약한 게시글이 있으면 모델을 다시 호출하지 않고 재사용
+  // 임시 저장 상태면 그대로 반환하고, 이미 발행된 게시글이면 요약만 복사한 새 임시 게시글 생성
+  public Post reusePost(Post post) {
+    if (post.getStatus() == PostStatus.DRAFT) {
+      return post;
+    }
+
+    Post clonedPost = Post.createPost(post.getUser(), post.getTitle(), post.getContent(),
+        PostStatus.DRAFT, post.getUrl());
+    clonedPost.updateSummarySource(post.getUrlHash(), post.getSummaryLevel(),
+        post.getSummaryOptionHash());
+
+    return postRepository.save(clonedPost);
+  }
+
+  // 요약에 성공한 결과만 다중 행 INSERT 로 저장하고, 생성된 게시글 id 를 요청 순서대로 반환
+  public List<Long> createPosts(User user, List<BatchSummaryResultDto> batchSummaryResults) {
+    List<Post> newPosts = batchSummaryResults.stream()
+                                             .filter(BatchSummaryResultDto::isSuccess)
+                                             .map(result -> {
+                                               Post newPost = Post.createPost(user,
+                                                   result.getSummaryResult().getTitle(),
+                                                   result.getSummaryResult().getContent(),
+                                                   PostStatus.DRAFT, result.getUrl());
+                                               updateSummarySource(newPost, result.getUrl(),
+                                                   result.getOption());
+                                               return newPost;
+                                             })
+                                             .toList();
+
+    return postBulkInsertRepository.insertAll(newPosts);
+  }
+
   public Post updatePost(User user, Post post, UpdatePostServiceRequest updatePostServiceRequest) {
     Archive archive = archiveReader.readActivatedArchiveByIdIfNotNull(
         updatePostServiceRequest.getArchiveId());
+    boolean published = post.getStatus() == PostStatus.PUBLISHED;
+    Long previousArchiveId = getArchiveId(post);
 
     post.updatePost(user, updatePostServiceRequest.getTitle(),
         updatePostServiceRequest.getContent(), archive);
 
+    // 임시 저장 -> 발행이면 개수 증가, 이미 발행된 게시글이면 보관함 이동만 반영
+    if (published) {
+      postCountManager.moveAfterCommit(user.getId(), previousArchiveId, getArchiveId(post));
+    } else {
+      postCountManager.publishAfterCommit(user.getId(), getArchiveId(post));
+    }
+
     // 메모 변경되었을 때만 업데이트
     if (
         (post.getMemo() == null && updatePostServiceRequest.getMemo() != null)
@@ -45,16 +110,38 @@ public class PostManager {
     }
 
     tagManager.updateTag(post, updatePostServiceRequest.getTagList());
-    return postRepository.save(post);
+    Post savedPost = postRepository.save(post);
+    postVersionManager.bumpPostAfterCommit(user.getId(), savedPost.getId());
+    return savedPost;
   }
 
   public void deletePost(Post post) {
+    if (post.getStatus() == PostStatus.PUBLISHED) {
+      postCountManager.deleteAfterCommit(post.getUser().getId(), getArchiveId(post));
+      tagManager.releaseTags(post);
+    }
     post.setActivated(Boolean.FALSE);
     postRepository.save(post);
+    postVersionManager.bumpPostAfterCommit(post.getUser().getId(), post.getId());
+  }
+
+  public Post updateSummary(Post post, CreatePostServiceRequest createPostServiceRequest,
+      SummaryResultDto summaryResultDto) {
+    post.updatePostSummary(summaryResultDto.getTitle(), summaryResultDto.getContent(),
+        createPostServiceRequest.getUrl());
+    updateSummarySource(post, createPostServiceRequest.getUrl(),
+        createPostServiceRequest.getOption());
+    Post savedPost = postRepository.save(post);
+    postVersionManager.bumpPostAfterCommit(post.getUser().getId(), savedPost.getId());
+    return savedPost;
+  }
+
+  private static Long getArchiveId(Post post) {
+    return post.getArchive() == null ? null : post.getArchive().getId();
   }
 
-  public Post updateSummary(Post post, String url, SummaryResultDto summaryResultDto) {
-    post.updatePostSummary(summaryResultDto.getTitle(), summaryResultDto.getContent(), url);
-    return postRepository.save(post);
+  private void updateSummarySource(Post post, String url, SummaryOption option) {
+    post.updateSummarySource(UrlNormalizer.hash(url), option.getLevel().name(),
+        HashGenerator.sha256Hex(option.toCanonicalString()));
   }
 }
@@ -2,24 +2,35 @@ package project.backend.business.post.implement;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 import project.backend.business.archive.implement.ArchiveReader;
+import project.backend.business.post.request.CreatePostServiceRequest;
 import project.backend.business.post.request.PostDetailServiceRequest;
 import project.backend.business.post.response.dto.PostDetailDto;
 import project.backend.business.post.response.dto.PostListDto;
 import project.backend.business.post.util.DateTimeManager;
+import project.backend.business.post.util.HashGenerator;
+import project.backend.business.post.util.UrlNormalizer;
 import project.backend.business.tag.implement.TagReader;
 import project.backend.common.error.CustomException;
 import project.backend.common.error.ErrorCode;
 import project.backend.entity.archive.Archive;
 import project.backend.entity.post.Post;
+import project.backend.entity.post.PostDraft;
 import project.backend.entity.post.PostStatus;
+import project.backend.repository.post.PostListQueryRepository;
+import project.backend.repository.post.PostListRow;
 import project.backend.repository.post.PostRepository;
+import project.backend.repository.post.PostSearchHit;
+import project.backend.repository.post.PostSearchRepository;
+import project.backend.repository.post.PostSpecification;
 
 @Slf4j
 @Component
@@ -27,6 +38,8 @@ import project.backend.repository.post.PostRepository;
 public class PostReader {
 
   private final PostRepository postRepository;
+  private final PostSearchRepository postSearchRepository;
+  private final PostListQueryRepository postListQueryRepository;
   private final TagReader tagReader;
   private final ArchiveReader archiveReader;
 
@@ -46,21 +59,74 @@ public class PostReader {
                          .orElseThrow(() -> new CustomException(ErrorCode.BAD_REQUEST));
   }
 
-  public List<PostListDto> readPostsWithTags(Specification<Post> spec, PageRequest pageRequest) {
-    List<Post> postList = postRepository.findAll(spec, pageRequest).getContent();
-    List<Long> postIdList = postList.stream().map(Post::getId).toList();
-
-    Map<Long, List<String>> postTagMap = tagReader.getPostTagMap(postIdList);
-
-    return postList.stream().map(
-                       post -> PostListDto.builder()
-                                          .id(post.getId())
-                                          .title(post.getTitle())
-                                          .createdAt(DateTimeManager.convertToStringPattern(
-                                              post.getCreatedAt(), "yyyy.MM.dd"))
-                                          .tagList(postTagMap.get(post.getId()))
-                                          .build())
-                   .toList();
+  // 비로그인 요약은 게시글 주인이 없으므로 재사용 대상이 아님
+  public Optional<Post> readReusablePost(Long userId,
+      CreatePostServiceRequest createPostServiceRequest) {
+    if (userId == null) {
+      return Optional.empty();
+    }
+    return postRepository.findFirstByUserIdAndUrlHashAndSummaryOptionHashAndActivatedTrueOrderByIdDesc(
+        userId, UrlNormalizer.hash(createPostServiceRequest.getUrl()),
+        HashGenerator.sha256Hex(createPostServiceRequest.getOption().toCanonicalString()));
+  }
+
+  // offset, count 쿼리 없이 id 내림차순으로 limit 건만 조회
+  // 목록 컬럼만 조회한 뒤 페이지의 게시글 태그를 한 번에 조회
+  public List<PostListDto> readPostsWithTags(Specification<Post> spec, int limit) {
+    List<PostListRow> rows = postListQueryRepository.findPostListRows(spec, limit);
+    Map<Long, List<String>> postTagMap = readPostTagMap(rows);
+    return rows.stream()
+               .map(row -> toPostListDto(row, postTagMap))
+               .toList();
+  }
+
+  // 관련도 순 게시글 id
+  public List<Long> readSearchHitIds(Long userId, String keyword, int limit) {
+    return postSearchRepository.search(userId, keyword, limit)
+                               .stream()
+                               .map(PostSearchHit::id)
+                               .toList();
+  }
+
+  // 검색 결과 순서(관련도 순)를 유지하여 반환
+  // 스냅샷을 만든 뒤 삭제되거나 발행 상태가 아니게 된 게시글은 첫 페이지 조회와 같은 조건으로 제외
+  public List<PostListDto> readPostsWithTagsByIds(Long userId, List<Long> postIdList) {
+    if (postIdList.isEmpty()) {
+      return List.of();
+    }
+    Specification<Post> spec = Specification.where(PostSpecification.getIdIn(postIdList))
+                                            .and(PostSpecification.getUser(userId))
+                                            .and(PostSpecification.getPublished())
+                                            .and(PostSpecification.getActivated());
+    List<PostListRow> rows = postListQueryRepository.findPostListRows(spec, postIdList.size());
+    Map<Long, PostListRow> rowMap = rows.stream()
+                                        .collect(Collectors.toMap(PostListRow::id,
+                                            Function.identity()));
+    Map<Long, List<String>> postTagMap = readPostTagMap(rows);
+
+    return postIdList.stream()
+                     .map(rowMap::get)
+                     .filter(Objects::nonNull)
+                     .map(row -> toPostListDto(row, postTagMap))
+                     .toList();
+  }
+
+  private Map<Long, List<String>> readPostTagMap(List<PostListRow> rows) {
+    if (rows.isEmpty()) {
+      return Map.of();
+    }
+    return tagReader.getPostTagMap(rows.stream().map(PostListRow::id).toList());
+  }
+
+  // 태그가 없는 게시글은 기존 응답과 같이 null
+  private PostListDto toPostListDto(PostListRow row, Map<Long, List<String>> postTagMap) {
+    return PostListDto.builder()
+                      .id(row.id())
+                      .title(row.title())
+                      .createdAt(DateTimeManager.convertToStringPattern(row.createdAt(),
+                          "yyyy.MM.dd"))
+                      .tagList(postTagMap.get(row.id()))
+                      .build();
   }
 
   public PostDetailDto readPostDetailWithTags(Long userId,
@@ -95,7 +161,16 @@ public class PostReader {
                         .build();
   }
 
-  public int readActivatePostCountByUserId(Long userId) {
-    return postRepository.countPostsByUserIdAndStatusAndActivatedTrue(userId, PostStatus.PUBLISHED);
+  // 임시 저장본은 태그, 보관함, 메모가 없음
+  public PostDetailDto readDraftDetail(PostDraft draft) {
+    return PostDetailDto.builder()
+                        .title(draft.getTitle())
+                        .content(draft.getContent())
+                        .url(draft.getUrl())
+                        .tagList(List.of())
+                        .createdAt(DateTimeManager.convertToStringPattern(
+                            draft.getCreatedAt(),
+                            "yyyy년 MM월 dd일"))
+                        .build();
   }
 }
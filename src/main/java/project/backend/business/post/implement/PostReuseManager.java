@@ -0,0 +1,45 @@
+package project.backend.business.post.implement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import project.backend.business.post.request.CreatePostServiceRequest;
+import project.backend.entity.post.Post;
+
+// 동기, 비동기, 스트리밍, 일괄 생성 경로가 모델 호출 전에 공통으로 거치는 게시글 재사용 조회
+@Component
+@RequiredArgsConstructor
+public class PostReuseManager {
+
+  private final PostReader postReader;
+  private final PostManager postManager;
+  private final TransactionTemplate transactionTemplate;
+
+  public Optional<Post> reusePost(Long userId, CreatePostServiceRequest createPostServiceRequest) {
+    // 비로그인 요약은 재사용 대상이 아니므로 트랜잭션도 열지 않음
+    if (userId == null) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(transactionTemplate.execute(status ->
+        postReader.readReusablePost(userId, createPostServiceRequest)
+                  .map(postManager::reusePost)
+                  .orElse(null)));
+  }
+
+  // 요청 순서대로 재사용한 게시글을 반환, 재사용할 게시글이 없는 요청은 null
+  public List<Post> reusePosts(Long userId,
+      List<CreatePostServiceRequest> createPostServiceRequests) {
+    List<Post> reusedPosts = new ArrayList<>();
+    transactionTemplate.executeWithoutResult(status -> {
+      for (CreatePostServiceRequest createPostServiceRequest : createPostServiceRequests) {
+        reusedPosts.add(postReader.readReusablePost(userId, createPostServiceRequest)
+                                  .map(postManager::reusePost)
+                                  .orElse(null));
+      }
+    });
+    return reusedPosts;
+  }
+}
@@ -0,0 +1,68 @@
+package project.backend.business.post.implement;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import project.backend.common.error.CustomException;
+import project.backend.common.error.ErrorCode;
+
+// 첫 페이지 검색 시점의 결과 순서를 redis 에 고정하고 다음 페이지는 이 목록에서 읽음
+// MATCH 점수는 테이블 전체 통계에 따라 바뀌므로 점수 기준 커서로는 페이지 사이에 중복/누락이 생김
+@Slf4j
+@Component
+public class PostSearchSnapshotManager {
+
+  private static final String KEY_PREFIX = "post:search:";
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final Duration ttl;
+
+  public PostSearchSnapshotManager(StringRedisTemplate stringRedisTemplate,
+      @Value("${post.search.snapshot-ttl:600}") long ttlSeconds) {
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.ttl = Duration.ofSeconds(ttlSeconds);
+  }
+
+  // 저장하지 못하면 null 을 반환하여 다음 페이지 없이 첫 페이지만 응답
+  public String saveSnapshot(Long userId, List<Long> postIds) {
+    String searchId = UUID.randomUUID().toString();
+    String key = key(userId, searchId);
+    try {
+      stringRedisTemplate.opsForList()
+                         .rightPushAll(key, postIds.stream().map(String::valueOf).toList());
+      stringRedisTemplate.expire(key, ttl);
+      return searchId;
+    } catch (DataAccessException e) {
+      log.warn("[PostSearchSnapshotManager] 검색 결과 저장 실패. userId: {}, errMsg: {}", userId,
+          e.getMessage());
+      return null;
+    }
+  }
+
+  public List<Long> readPostIds(Long userId, String searchId, int offset, int count) {
+    List<String> postIds;
+    try {
+      postIds = stringRedisTemplate.opsForList()
+                                   .range(key(userId, searchId), offset, offset + count - 1L);
+    } catch (DataAccessException e) {
+      log.warn("[PostSearchSnapshotManager] 검색 결과 조회 실패. userId: {}, errMsg: {}", userId,
+          e.getMessage());
+      throw new CustomException(ErrorCode.SEARCH_CURSOR_EXPIRED);
+    }
+
+    // 커서는 다음 결과가 있을 때만 발급하므로 비어 있으면 만료된 스냅샷
+    if (postIds == null || postIds.isEmpty()) {
+      throw new CustomException(ErrorCode.SEARCH_CURSOR_EXPIRED);
+    }
+    return postIds.stream().map(Long::valueOf).toList();
+  }
+
+  private static String key(Long userId, String searchId) {
+    return KEY_PREFIX + userId + ":" + searchId;
+  }
+}
@@ -0,0 +1,111 @@
+package project.backend.business.post.implement;
+
+import java.time.Duration;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 게시글 목록/상세 ETag 의 기준이 되는 버전 스탬프
+// user: 사용자의 게시글이 바뀔 때마다 증가 (목록), post: 해당 게시글이 바뀔 때 증가 (상세)
+// archive: 사용자의 보관함 이름 변경/삭제 시 증가 (상세에 보관함 이름이 포함되므로)
+@Slf4j
+@Component
+public class PostVersionManager {
+
+  private static final String USER_KEY_PREFIX = "post:version:user:";
+  private static final String POST_KEY_PREFIX = "post:version:post:";
+  private static final String ARCHIVE_KEY_PREFIX = "post:version:archive:";
+
+  private static final RedisScript<Long> BUMP_SCRIPT = RedisScript.of(
+      new ClassPathResource("scripts/post_version_bump.lua"), Long.class);
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final Duration ttl;
+
+  public PostVersionManager(StringRedisTemplate stringRedisTemplate,
+      @Value("${post.version.ttl:604800}") long ttlSeconds) {
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.ttl = Duration.ofSeconds(ttlSeconds);
+  }
+
+  // redis 를 사용할 수 없으면 null 을 반환하여 조건부 요청 없이 처리
+  public String readListVersion(Long userId) {
+    return readVersions(List.of(USER_KEY_PREFIX + userId));
+  }
+
+  public String readDetailVersion(Long userId, Long postId) {
+    return readVersions(List.of(POST_KEY_PREFIX + postId, ARCHIVE_KEY_PREFIX + userId));
+  }
+
+  public void bumpPostAfterCommit(Long userId, Long postId) {
+    bumpAfterCommit(List.of(USER_KEY_PREFIX + userId, POST_KEY_PREFIX + postId));
+  }
+
+  public void bumpArchiveAfterCommit(Long userId) {
+    bumpAfterCommit(List.of(USER_KEY_PREFIX + userId, ARCHIVE_KEY_PREFIX + userId));
+  }
+
+  // 처음 조회하는 키는 현재 시각으로 초기화 (동시에 초기화되면 먼저 쓴 값을 사용)
+  private String readVersions(List<String> keys) {
+    try {
+      List<String> versions = stringRedisTemplate.opsForValue().multiGet(keys);
+      if (versions == null) {
+        return null;
+      }
+
+      StringBuilder version = new StringBuilder();
+      for (int i = 0; i < keys.size(); i++) {
+        String value = versions.get(i);
+        if (value == null) {
+          String initial = String.valueOf(System.currentTimeMillis());
+          stringRedisTemplate.opsForValue().setIfAbsent(keys.get(i), initial, ttl);
+          value = stringRedisTemplate.opsForValue().get(keys.get(i));
+        }
+        if (value == null) {
+          return null;
+        }
+        version.append(i == 0 ? "" : ".").append(value);
+      }
+      return version.toString();
+    } catch (DataAccessException e) {
+      log.warn("[PostVersionManager] redis 조회 실패. keys: {}, errMsg: {}", keys, e.getMessage());
+      return null;
+    }
+  }
+
+  private void bumpAfterCommit(List<String> keys) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      bump(keys);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        bump(keys);
+      }
+    });
+  }
+
+  // 증가에 실패하면 이전 ETag 로 오래된 응답이 나갈 수 있으므로 키를 지워 다음 조회 시 새 값으로 초기화
+  private void bump(List<String> keys) {
+    try {
+      stringRedisTemplate.execute(BUMP_SCRIPT, keys,
+          String.valueOf(System.currentTimeMillis()), String.valueOf(ttl.toSeconds()));
+    } catch (DataAccessException e) {
+      log.warn("[PostVersionManager] redis 버전 증가 실패. keys: {}, errMsg: {}", keys,
+          e.getMessage());
+      try {
+        stringRedisTemplate.delete(keys);
+      } catch (DataAccessException ignored) {
+        // redis 장애 중이면 조회도 실패하여 조건부 요청을 처리하지 않음
+      }
+    }
+  }
+}
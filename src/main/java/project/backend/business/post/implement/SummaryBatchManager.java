@@ -0,0 +1,70 @@
+package project.backend.business.post.implement;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import project.backend.business.post.request.CreatePostServiceRequest;
+import project.backend.business.post.response.dto.BatchSummaryResultDto;
+import project.backend.common.error.CustomException;
+import project.backend.common.error.ErrorCode;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SummaryBatchManager {
+
+  private final SummaryManager summaryManager;
+  private final ThreadPoolTaskExecutor summaryBatchExecutor;
+
+  // 동시 실행 수는 summaryBatchExecutor 의 풀 크기로 제한, 결과는 요청 순서대로 반환
+  public List<BatchSummaryResultDto> summarizeAll(
+      List<CreatePostServiceRequest> createPostServiceRequests) {
+    List<CompletableFuture<BatchSummaryResultDto>> futures =
+        createPostServiceRequests.stream()
+                                 .map(this::summarizeAsync)
+                                 .toList();
+
+    return futures.stream()
+                  .map(CompletableFuture::join)
+                  .toList();
+  }
+
+  private CompletableFuture<BatchSummaryResultDto> summarizeAsync(
+      CreatePostServiceRequest createPostServiceRequest) {
+    try {
+      return CompletableFuture.supplyAsync(() -> summarize(createPostServiceRequest),
+                                  summaryBatchExecutor)
+                              .exceptionally(e -> failure(createPostServiceRequest, e));
+    } catch (TaskRejectedException e) {
+      return CompletableFuture.completedFuture(failure(createPostServiceRequest,
+          new CustomException(ErrorCode.SUMMARY_JOB_REJECTED)));
+    }
+  }
+
+  private BatchSummaryResultDto summarize(CreatePostServiceRequest createPostServiceRequest) {
+    return BatchSummaryResultDto.builder()
+                                .url(createPostServiceRequest.getUrl())
+                                .option(createPostServiceRequest.getOption())
+                                .summaryResult(summaryManager.summarize(createPostServiceRequest))
+                                .build();
+  }
+
+  private BatchSummaryResultDto failure(CreatePostServiceRequest createPostServiceRequest,
+      Throwable throwable) {
+    Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+    String message = cause instanceof CustomException ? cause.getMessage()
+        : ErrorCode.INVALID_SUMMARY.getMessage();
+
+    log.warn("[SummaryBatch] 요약 실패. url: {}, errMsg: {}", createPostServiceRequest.getUrl(),
+        cause.getMessage());
+    return BatchSummaryResultDto.builder()
+                                .url(createPostServiceRequest.getUrl())
+                                .errorMessage(message)
+                                .build();
+  }
+}
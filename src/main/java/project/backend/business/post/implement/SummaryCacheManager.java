@@ -0,0 +1,155 @@
+package project.backend.business.post.implement;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.stereotype.Component;
+import project.backend.business.post.request.CreatePostServiceRequest;
+import project.backend.business.post.response.dto.SummaryResultDto;
+import project.backend.business.post.util.HashGenerator;
+import project.backend.business.post.util.LocalLruCache;
+import project.backend.business.post.util.UrlNormalizer;
+
+@Slf4j
+@Component
+public class SummaryCacheManager {
+
+  private static final String KEY_PREFIX = "summary:result:";
+  private static final String CHUNK_KEY_PREFIX = "summary:chunk:";
+
+  private final RedisTemplate<String, SummaryResultDto> summaryRedisTemplate;
+  private final StringRedisTemplate stringRedisTemplate;
+  private final LocalLruCache<String, SummaryResultDto> localCache;
+  private final LocalLruCache<String, String> localChunkCache;
+  private final Duration redisTtl;
+
+  private final Counter localHitCounter;
+  private final Counter redisHitCounter;
+  private final Counter missCounter;
+
+  public SummaryCacheManager(RedisTemplate<String, SummaryResultDto> summaryRedisTemplate,
+      StringRedisTemplate stringRedisTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${summary.cache.local.max-size:1000}") int localMaxSize,
+      @Value("${summary.cache.local.ttl:600}") long localTtlSeconds,
+      @Value("${summary.cache.redis.ttl:86400}") long redisTtlSeconds) {
+    this.summaryRedisTemplate = summaryRedisTemplate;
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.localCache = new LocalLruCache<>(localMaxSize, Duration.ofSeconds(localTtlSeconds));
+    this.localChunkCache = new LocalLruCache<>(localMaxSize, Duration.ofSeconds(localTtlSeconds));
+    this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+
+    this.localHitCounter = Counter.builder("summary.cache.requests")
+                                  .tag("result", "hit")
+                                  .tag("tier", "local")
+                                  .register(meterRegistry);
+    this.redisHitCounter = Counter.builder("summary.cache.requests")
+                                  .tag("result", "hit")
+                                  .tag("tier", "redis")
+                                  .register(meterRegistry);
+    this.missCounter = Counter.builder("summary.cache.requests")
+                              .tag("result", "miss")
+                              .tag("tier", "all")
+                              .register(meterRegistry);
+    Gauge.builder("summary.cache.local.size", localCache, LocalLruCache::size)
+         .register(meterRegistry);
+  }
+
+  // 정규화된 URL + 정규화된 요약 옵션으로 캐시 키 생성
+  public String createKey(CreatePostServiceRequest createPostServiceRequest) {
+    String normalizedUrl = UrlNormalizer.normalize(createPostServiceRequest.getUrl());
+    String canonicalOption = createPostServiceRequest.getOption().toCanonicalString();
+    return HashGenerator.sha256Hex(normalizedUrl + "\n" + canonicalOption);
+  }
+
+  // 기존 게시글 요약에서 어조/언어만 바꾼 결과용 키. 사용자가 수정한 게시글 내용이 다른 사용자의 요약으로
+  // 쓰이지 않도록 원문 URL 키와 분리하고, 바탕이 된 제목/본문이 바뀌면 다른 키가 됨
+  public String createDerivedKey(CreatePostServiceRequest createPostServiceRequest,
+      String sourceTitle, String sourceContent) {
+    return HashGenerator.sha256Hex(createKey(createPostServiceRequest) + "\n"
+        + HashGenerator.sha256Hex(sourceTitle + "\n" + sourceContent));
+  }
+
+  public Optional<SummaryResultDto> get(String key) {
+    Optional<SummaryResultDto> localResult = localCache.get(key);
+    if (localResult.isPresent()) {
+      localHitCounter.increment();
+      return localResult;
+    }
+
+    Optional<SummaryResultDto> redisResult = readFromRedis(key);
+    if (redisResult.isPresent()) {
+      redisHitCounter.increment();
+      localCache.put(key, redisResult.get());
+      return redisResult;
+    }
+
+    missCounter.increment();
+    return Optional.empty();
+  }
+
+  // 지표를 남기지 않고 조회 (single-flight 대기 중 결과 확인 용도)
+  public Optional<SummaryResultDto> peek(String key) {
+    Optional<SummaryResultDto> localResult = localCache.get(key);
+    if (localResult.isPresent()) {
+      return localResult;
+    }
+    return readFromRedis(key);
+  }
+
+  public void put(String key, SummaryResultDto summaryResultDto) {
+    localCache.put(key, summaryResultDto);
+    try {
+      summaryRedisTemplate.opsForValue().set(KEY_PREFIX + key, summaryResultDto, redisTtl);
+    } catch (DataAccessException | SerializationException e) {
+      log.warn("[SummaryCache] redis 저장 실패. key: {}, errMsg: {}", key, e.getMessage());
+    }
+  }
+
+  // 긴 문서 조각 요약은 조각 본문 해시로 저장해 요약 옵션이 바뀌어도 재사용
+  public Optional<String> getChunkSummary(String chunk) {
+    String key = HashGenerator.sha256Hex(chunk);
+    Optional<String> localResult = localChunkCache.get(key);
+    if (localResult.isPresent()) {
+      return localResult;
+    }
+
+    try {
+      Optional<String> redisResult = Optional.ofNullable(
+          stringRedisTemplate.opsForValue().get(CHUNK_KEY_PREFIX + key));
+      redisResult.ifPresent(chunkSummary -> localChunkCache.put(key, chunkSummary));
+      return redisResult;
+    } catch (DataAccessException e) {
+      log.warn("[SummaryCache] redis 조각 조회 실패. key: {}, errMsg: {}", key, e.getMessage());
+      return Optional.empty();
+    }
+  }
+
+  public void putChunkSummary(String chunk, String chunkSummary) {
+    String key = HashGenerator.sha256Hex(chunk);
+    localChunkCache.put(key, chunkSummary);
+    try {
+      stringRedisTemplate.opsForValue().set(CHUNK_KEY_PREFIX + key, chunkSummary, redisTtl);
+    } catch (DataAccessException e) {
+      log.warn("[SummaryCache] redis 조각 저장 실패. key: {}, errMsg: {}", key, e.getMessage());
+    }
+  }
+
+  // redis 장애 시에도 요약은 동작해야 하므로 캐시 miss 로 처리
+  private Optional<SummaryResultDto> readFromRedis(String key) {
+    try {
+      return Optional.ofNullable(summaryRedisTemplate.opsForValue().get(KEY_PREFIX + key));
+    } catch (DataAccessException | SerializationException e) {
+      log.warn("[SummaryCache] redis 조회 실패. key: {}, errMsg: {}", key, e.getMessage());
+      return Optional.empty();
+    }
+  }
+}
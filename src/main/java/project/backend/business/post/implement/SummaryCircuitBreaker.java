@@ -0,0 +1,139 @@
+package project.backend.business.post.implement;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import project.backend.common.error.CustomException;
+import project.backend.common.error.ErrorCode;
+
+// 최근 모델 호출 결과(실패 또는 느린 응답)의 비율이 기준을 넘으면 차단하여 장애 시 요청이 매달리지 않도록 함
+// 차단 후 일정 시간이 지나면 일부 호출만 시험으로 허용하고, 모두 성공하면 다시 연결
+@Slf4j
+@Component
+public class SummaryCircuitBreaker {
+
+  private enum State {
+    CLOSED, OPEN, HALF_OPEN
+  }
+
+  private final Clock clock = Clock.systemUTC();
+
+  private final boolean[] failureWindow;
+  private final int minimumCalls;
+  private final double failureRateThreshold;
+  private final long slowCallNanos;
+  private final long openMillis;
+  private final int halfOpenCalls;
+
+  private State state = State.CLOSED;
+  private int windowIndex;
+  private int recordedCalls;
+  private int failureCount;
+  private long openedAt;
+  private int halfOpenPermitted;
+  private int halfOpenSucceeded;
+
+  public SummaryCircuitBreaker(MeterRegistry meterRegistry,
+      @Value("${summary.model.circuit.window-size:20}") int windowSize,
+      @Value("${summary.model.circuit.minimum-calls:10}") int minimumCalls,
+      @Value("${summary.model.circuit.failure-rate-threshold:0.5}") double failureRateThreshold,
+      @Value("${summary.model.circuit.slow-call-millis:30000}") long slowCallMillis,
+      @Value("${summary.model.circuit.open-seconds:30}") long openSeconds,
+      @Value("${summary.model.circuit.half-open-calls:3}") int halfOpenCalls) {
+    this.failureWindow = new boolean[windowSize];
+    this.minimumCalls = minimumCalls;
+    this.failureRateThreshold = failureRateThreshold;
+    this.slowCallNanos = TimeUnit.MILLISECONDS.toNanos(slowCallMillis);
+    this.openMillis = TimeUnit.SECONDS.toMillis(openSeconds);
+    this.halfOpenCalls = halfOpenCalls;
+
+    Gauge.builder("summary.model.circuit.open", this, SummaryCircuitBreaker::getOpenState)
+         .register(meterRegistry);
+  }
+
+  // 차단 상태면 모델을 호출하지 않고 바로 실패
+  public synchronized void acquirePermission() {
+    if (state == State.OPEN) {
+      if (clock.millis() - openedAt < openMillis) {
+        throw new CustomException(ErrorCode.SUMMARY_MODEL_UNAVAILABLE);
+      }
+      state = State.HALF_OPEN;
+      halfOpenPermitted = 0;
+      halfOpenSucceeded = 0;
+    }
+
+    if (state == State.HALF_OPEN) {
+      if (halfOpenPermitted >= halfOpenCalls) {
+        throw new CustomException(ErrorCode.SUMMARY_MODEL_UNAVAILABLE);
+      }
+      halfOpenPermitted++;
+    }
+  }
+
+  public synchronized void onSuccess(long latencyNanos) {
+    record(latencyNanos > slowCallNanos);
+  }
+
+  public synchronized void onError() {
+    record(true);
+  }
+
+  // 모델 응답과 무관한 사유(동시 호출 제한, 취소)로 끝난 호출은 판정에서 제외
+  public synchronized void onIgnored() {
+    if (state == State.HALF_OPEN && halfOpenPermitted > 0) {
+      halfOpenPermitted--;
+    }
+  }
+
+  private void record(boolean failure) {
+    if (state == State.HALF_OPEN) {
+      if (failure) {
+        open();
+      } else if (++halfOpenSucceeded >= halfOpenCalls) {
+        close();
+      }
+      return;
+    }
+    if (state == State.OPEN) {
+      return;
+    }
+
+    if (recordedCalls == failureWindow.length && failureWindow[windowIndex]) {
+      failureCount--;
+    }
+    failureWindow[windowIndex] = failure;
+    if (failure) {
+      failureCount++;
+    }
+    windowIndex = (windowIndex + 1) % failureWindow.length;
+    recordedCalls = Math.min(recordedCalls + 1, failureWindow.length);
+
+    if (recordedCalls >= minimumCalls
+        && (double) failureCount / recordedCalls >= failureRateThreshold) {
+      open();
+    }
+  }
+
+  private void open() {
+    log.warn("[SummaryCircuit] 모델 호출 차단. failureCount: {}, recordedCalls: {}", failureCount,
+        recordedCalls);
+    state = State.OPEN;
+    openedAt = clock.millis();
+  }
+
+  private void close() {
+    log.info("[SummaryCircuit] 모델 호출 차단 해제");
+    state = State.CLOSED;
+    windowIndex = 0;
+    recordedCalls = 0;
+    failureCount = 0;
+  }
+
+  private synchronized double getOpenState() {
+    return state == State.CLOSED ? 0 : 1;
+  }
+}
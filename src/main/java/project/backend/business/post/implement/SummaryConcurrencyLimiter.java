@@ -0,0 +1,178 @@
+package project.backend.business.post.implement;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import project.backend.common.error.CustomException;
+import project.backend.common.error.ErrorCode;
+
+// 모델 호출 동시 실행 수를 응답 지연에 맞춰 조절 (AIMD)
+// 지연이 평소보다 크게 늘거나 호출이 실패하면 한도를 곱셈으로 줄이고, 정상 응답이면 한도를 조금씩 늘림
+// 헤징에서 지거나 시간 초과, 연결 종료로 취소된 호출은 모델 상태와 무관하므로 한도에 반영하지 않음
+@Slf4j
+@Component
+public class SummaryConcurrencyLimiter {
+
+  // 평소 지연(기준값)을 천천히 따라가도록 작은 가중치 사용
+  private static final double BASELINE_SMOOTHING = 0.05;
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition permitReleased = lock.newCondition();
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final int queueCapacity;
+  private final long maxWaitNanos;
+  private final double backoffRatio;
+  private final double latencyTolerance;
+
+  private double limit;
+  private int inFlight;
+  private int waiting;
+  private double baselineLatencyNanos;
+
+  public SummaryConcurrencyLimiter(MeterRegistry meterRegistry,
+      @Value("${summary.model.limiter.initial-limit:10}") int initialLimit,
+      @Value("${summary.model.limiter.min-limit:2}") int minLimit,
+      @Value("${summary.model.limiter.max-limit:50}") int maxLimit,
+      @Value("${summary.model.limiter.queue-capacity:50}") int queueCapacity,
+      @Value("${summary.model.limiter.max-wait-millis:10000}") long maxWaitMillis,
+      @Value("${summary.model.limiter.backoff-ratio:0.9}") double backoffRatio,
+      @Value("${summary.model.limiter.latency-tolerance:2.0}") double latencyTolerance) {
+    this.limit = initialLimit;
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.queueCapacity = queueCapacity;
+    this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+    this.backoffRatio = backoffRatio;
+    this.latencyTolerance = latencyTolerance;
+
+    Gauge.builder("summary.model.limiter.limit", this, SummaryConcurrencyLimiter::getLimit)
+         .register(meterRegistry);
+    Gauge.builder("summary.model.limiter.in-flight", this, SummaryConcurrencyLimiter::getInFlight)
+         .register(meterRegistry);
+    Gauge.builder("summary.model.limiter.queue", this, SummaryConcurrencyLimiter::getWaiting)
+         .register(meterRegistry);
+  }
+
+  public <T> T execute(Supplier<T> modelCall) {
+    long startNanos = acquire();
+    boolean success = false;
+    try {
+      T result = modelCall.get();
+      success = true;
+      return result;
+    } finally {
+      if (Thread.currentThread().isInterrupted()) {
+        releaseIgnored();
+      } else {
+        release(startNanos, success);
+      }
+    }
+  }
+
+  // 허가를 얻을 때까지 대기. 대기열이 가득 찼거나 대기 시간을 넘기면 즉시 실패
+  public long acquire() {
+    lock.lock();
+    try {
+      if (inFlight < (int) limit) {
+        inFlight++;
+        return System.nanoTime();
+      }
+      if (waiting >= queueCapacity) {
+        throw new CustomException(ErrorCode.SUMMARY_MODEL_OVERLOADED);
+      }
+
+      waiting++;
+      try {
+        long remainingNanos = maxWaitNanos;
+        while (inFlight >= (int) limit) {
+          if (remainingNanos <= 0) {
+            throw new CustomException(ErrorCode.SUMMARY_MODEL_OVERLOADED);
+          }
+          remainingNanos = permitReleased.awaitNanos(remainingNanos);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new CustomException(ErrorCode.SUMMARY_MODEL_OVERLOADED);
+      } finally {
+        waiting--;
+      }
+
+      inFlight++;
+      return System.nanoTime();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public void release(long startNanos, boolean success) {
+    long latencyNanos = System.nanoTime() - startNanos;
+
+    lock.lock();
+    try {
+      boolean saturated = inFlight >= (int) limit;
+      inFlight--;
+
+      if (!success || isLatencyIncreased(latencyNanos)) {
+        double decreased = Math.max(minLimit, limit * backoffRatio);
+        if ((int) decreased < (int) limit) {
+          log.info("[SummaryLimiter] 동시 호출 한도 감소. {} -> {}, latency: {}ms", (int) limit,
+              (int) decreased, TimeUnit.NANOSECONDS.toMillis(latencyNanos));
+        }
+        limit = decreased;
+      } else if (saturated) {
+        // 한도까지 사용 중일 때만 늘려서 부하가 적을 때 한도가 무한정 커지지 않도록 함
+        limit = Math.min(maxLimit, limit + 1.0 / limit);
+      }
+
+      if (success) {
+        updateBaseline(latencyNanos);
+      }
+      permitReleased.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  // 취소된 호출은 한도와 기준 지연을 바꾸지 않고 허가만 반환
+  public void releaseIgnored() {
+    lock.lock();
+    try {
+      inFlight--;
+      permitReleased.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private boolean isLatencyIncreased(long latencyNanos) {
+    return baselineLatencyNanos > 0 && latencyNanos > baselineLatencyNanos * latencyTolerance;
+  }
+
+  private void updateBaseline(long latencyNanos) {
+    if (baselineLatencyNanos == 0) {
+      baselineLatencyNanos = latencyNanos;
+      return;
+    }
+    baselineLatencyNanos += (latencyNanos - baselineLatencyNanos) * BASELINE_SMOOTHING;
+  }
+
+  private double getLimit() {
+    return (int) limit;
+  }
+
+  private double getInFlight() {
+    return inFlight;
+  }
+
+  private double getWaiting() {
+    return waiting;
+  }
+}
@@ -0,0 +1,202 @@
+package project.backend.business.post.implement;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import project.backend.business.post.response.dto.SummaryResultDto;
+import project.backend.common.error.CustomException;
+import project.backend.common.error.ErrorCode;
+
+// 동일한 요약 요청을 하나의 모델 호출로 합침
+// 같은 JVM 안에서는 하나의 future 를 공유하고, 노드 간에는 redis lease 를 잡은 노드만 모델을 호출
+// lease 를 얻지 못한 노드는 lease 를 잡은 노드가 캐시에 결과를 쓸 때까지 대기
+// 긴 문서 요약은 lease TTL 보다 오래 걸릴 수 있으므로 모델을 호출하는 동안 TTL 의 1/3 주기로 lease 를 갱신
+@Slf4j
+@Component
+public class SummaryFlightManager {
+
+  private static final String LEASE_PREFIX = "summary:lease:";
+  private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+      "if redis.call('get', KEYS[1]) == ARGV[1] then "
+          + "return redis.call('del', KEYS[1]) else return 0 end", Long.class);
+  private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+      "if redis.call('get', KEYS[1]) == ARGV[1] then "
+          + "return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end", Long.class);
+
+  private final Map<String, CompletableFuture<SummaryResultDto>> inFlight = new ConcurrentHashMap<>();
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final SummaryCacheManager summaryCacheManager;
+  private final TaskScheduler taskScheduler;
+  private final Duration leaseTtl;
+  private final Duration waitTimeout;
+  private final long pollIntervalMillis;
+
+  public SummaryFlightManager(StringRedisTemplate stringRedisTemplate,
+      SummaryCacheManager summaryCacheManager, TaskScheduler taskScheduler,
+      @Value("${summary.flight.lease-ttl:30}") long leaseTtlSeconds,
+      @Value("${summary.flight.wait-timeout:300}") long waitTimeoutSeconds,
+      @Value("${summary.flight.poll-interval-millis:200}") long pollIntervalMillis) {
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.summaryCacheManager = summaryCacheManager;
+    this.taskScheduler = taskScheduler;
+    this.leaseTtl = Duration.ofSeconds(leaseTtlSeconds);
+    this.waitTimeout = Duration.ofSeconds(waitTimeoutSeconds);
+    this.pollIntervalMillis = pollIntervalMillis;
+  }
+
+  // loader 는 결과를 summaryCacheManager 에 저장해야 다른 노드의 대기자가 결과를 받을 수 있음
+  public SummaryResultDto execute(String key, Supplier<SummaryResultDto> loader) {
+    CompletableFuture<SummaryResultDto> future = new CompletableFuture<>();
+    CompletableFuture<SummaryResultDto> existing = inFlight.putIfAbsent(key, future);
+    if (existing != null) {
+      return await(existing);
+    }
+
+    try {
+      SummaryResultDto summaryResultDto = executeAcrossCluster(key, loader);
+      future.complete(summaryResultDto);
+      return summaryResultDto;
+    } catch (RuntimeException e) {
+      future.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, future);
+    }
+  }
+
+  private SummaryResultDto executeAcrossCluster(String key, Supplier<SummaryResultDto> loader) {
+    long deadline = System.currentTimeMillis() + waitTimeout.toMillis();
+
+    while (System.currentTimeMillis() < deadline) {
+      String leaseToken = UUID.randomUUID().toString();
+      Optional<Boolean> acquired = tryAcquireLease(key, leaseToken);
+
+      // redis 를 사용할 수 없으면 노드 간 합치기 없이 바로 호출
+      if (acquired.isEmpty()) {
+        return loader.get();
+      }
+
+      if (acquired.get()) {
+        ScheduledFuture<?> heartbeat = startHeartbeat(key, leaseToken);
+        try {
+          return summaryCacheManager.peek(key).orElseGet(loader);
+        } finally {
+          heartbeat.cancel(false);
+          releaseLease(key, leaseToken);
+        }
+      }
+
+      Optional<SummaryResultDto> sharedResult = waitForLeaseHolder(key, deadline);
+      if (sharedResult.isPresent()) {
+        return sharedResult.get();
+      }
+      // lease 를 가진 노드가 결과 없이 끝났으면 다시 lease 획득 시도
+    }
+
+    log.warn("[SummaryFlight] lease 대기 시간 초과로 직접 요약합니다. key: {}", key);
+    return loader.get();
+  }
+
+  private Optional<SummaryResultDto> waitForLeaseHolder(String key, long deadline) {
+    while (System.currentTimeMillis() < deadline) {
+      sleep();
+
+      Optional<SummaryResultDto> sharedResult = summaryCacheManager.peek(key);
+      if (sharedResult.isPresent()) {
+        return sharedResult;
+      }
+      if (!isLeaseHeld(key)) {
+        return summaryCacheManager.peek(key);
+      }
+    }
+    return Optional.empty();
+  }
+
+  private Optional<Boolean> tryAcquireLease(String key, String leaseToken) {
+    try {
+      return Optional.ofNullable(stringRedisTemplate.opsForValue()
+                                                    .setIfAbsent(LEASE_PREFIX + key, leaseToken,
+                                                        leaseTtl));
+    } catch (DataAccessException e) {
+      log.warn("[SummaryFlight] lease 획득 실패. key: {}, errMsg: {}", key, e.getMessage());
+      return Optional.empty();
+    }
+  }
+
+  // lease 를 잡은 노드가 죽으면 갱신이 멈추므로 TTL 이 지나 다른 노드가 이어받음
+  private ScheduledFuture<?> startHeartbeat(String key, String leaseToken) {
+    Duration interval = leaseTtl.dividedBy(3);
+    return taskScheduler.scheduleAtFixedRate(() -> renewLease(key, leaseToken),
+        Instant.now().plus(interval), interval);
+  }
+
+  private void renewLease(String key, String leaseToken) {
+    try {
+      stringRedisTemplate.execute(RENEW_SCRIPT, Collections.singletonList(LEASE_PREFIX + key),
+          leaseToken, String.valueOf(leaseTtl.toMillis()));
+    } catch (DataAccessException e) {
+      log.warn("[SummaryFlight] lease 갱신 실패. key: {}, errMsg: {}", key, e.getMessage());
+    }
+  }
+
+  private boolean isLeaseHeld(String key) {
+    try {
+      return Boolean.TRUE.equals(stringRedisTemplate.hasKey(LEASE_PREFIX + key));
+    } catch (DataAccessException e) {
+      return false;
+    }
+  }
+
+  private void releaseLease(String key, String leaseToken) {
+    try {
+      stringRedisTemplate.execute(RELEASE_SCRIPT, Collections.singletonList(LEASE_PREFIX + key),
+          leaseToken);
+    } catch (DataAccessException e) {
+      log.warn("[SummaryFlight] lease 해제 실패. key: {}, errMsg: {}", key, e.getMessage());
+    }
+  }
+
+  private SummaryResultDto await(CompletableFuture<SummaryResultDto> future) {
+    try {
+      return future.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof CustomException customException) {
+        throw customException;
+      }
+      throw new CustomException(ErrorCode.INVALID_SUMMARY);
+    } catch (TimeoutException e) {
+      throw new CustomException(ErrorCode.INVALID_SUMMARY);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CustomException(ErrorCode.INVALID_SUMMARY);
+    }
+  }
+
+  private void sleep() {
+    try {
+      Thread.sleep(pollIntervalMillis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CustomException(ErrorCode.INVALID_SUMMARY);
+    }
+  }
+}
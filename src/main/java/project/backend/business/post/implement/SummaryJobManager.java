@@ -0,0 +1,93 @@
+package project.backend.business.post.implement;
+
+import java.util.Objects;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import project.backend.business.post.request.CreatePostServiceRequest;
+import project.backend.business.post.response.dto.SummaryResultDto;
+import project.backend.business.user.implement.UserReader;
+import project.backend.common.error.CustomException;
+import project.backend.common.error.ErrorCode;
+import project.backend.entity.job.SummaryJob;
+import project.backend.entity.post.Post;
+import project.backend.entity.user.User;
+import project.backend.repository.job.SummaryJobRedisRepository;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SummaryJobManager {
+
+  private final SummaryJobRedisRepository summaryJobRedisRepository;
+  private final ThreadPoolTaskExecutor summaryJobExecutor;
+  private final TransactionTemplate transactionTemplate;
+  private final SummaryManager summaryManager;
+  private final PostManager postManager;
+  private final PostReuseManager postReuseManager;
+  private final PostDraftManager postDraftManager;
+  private final UserReader userReader;
+
+  public SummaryJob submitJob(Long userId, CreatePostServiceRequest createPostServiceRequest) {
+    SummaryJob job = summaryJobRedisRepository.save(
+        SummaryJob.createJob(UUID.randomUUID().toString(), userId));
+
+    try {
+      summaryJobExecutor.execute(() -> runJob(job, createPostServiceRequest));
+    } catch (TaskRejectedException e) {
+      log.warn("[SummaryJob] 작업 큐가 가득 차 요청을 거절합니다. jobId: {}", job.getId());
+      summaryJobRedisRepository.delete(job);
+      throw new CustomException(ErrorCode.SUMMARY_JOB_REJECTED);
+    }
+    return job;
+  }
+
+  public SummaryJob readJob(Long userId, String jobId) {
+    SummaryJob job = summaryJobRedisRepository.findById(jobId)
+                                              .orElseThrow(
+                                                  () -> new CustomException(ErrorCode.BAD_REQUEST));
+
+    if (job.getUserId() != null && !Objects.equals(job.getUserId(), userId)) {
+      throw new CustomException(ErrorCode.BAD_REQUEST);
+    }
+    return job;
+  }
+
+  // 재사용할 게시글이 있으면 모델을 호출하지 않음
+  // 요약(LLM 호출)은 트랜잭션 밖에서, 게시글 저장만 짧은 트랜잭션으로 처리
+  private void runJob(SummaryJob job, CreatePostServiceRequest createPostServiceRequest) {
+    try {
+      Long postId = postReuseManager.reusePost(job.getUserId(), createPostServiceRequest)
+                                    .map(Post::getId)
+                                    .orElseGet(() -> savePost(job.getUserId(),
+                                        createPostServiceRequest,
+                                        summaryManager.summarize(createPostServiceRequest)));
+      job.complete(postId);
+    } catch (CustomException e) {
+      log.warn("[SummaryJob] 요약 작업 실패. jobId: {}, errMsg: {}", job.getId(), e.getMessage());
+      job.fail(e.getMessage());
+    } catch (Exception e) {
+      log.error("[SummaryJob] 요약 작업 중 예외 발생. jobId: {}", job.getId(), e);
+      job.fail(ErrorCode.INVALID_SUMMARY.getMessage());
+    }
+    summaryJobRedisRepository.save(job);
+  }
+
+  // 비로그인 요약은 redis 임시 저장본으로 보관
+  private Long savePost(Long userId, CreatePostServiceRequest createPostServiceRequest,
+      SummaryResultDto summaryResultDto) {
+    if (userId == null) {
+      return postDraftManager.createDraft(createPostServiceRequest, summaryResultDto);
+    }
+
+    Post post = transactionTemplate.execute(status -> {
+      User user = userReader.readUserByIdOrNull(userId);
+      return postManager.createPost(user, createPostServiceRequest, summaryResultDto);
+    });
+    return Objects.requireNonNull(post).getId();
+  }
+}
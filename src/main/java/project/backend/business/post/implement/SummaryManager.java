@@ -1,81 +1,243 @@
 package project.backend.business.post.implement;
 
-import java.util.HashMap;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.json.JSONException;
-import org.json.JSONObject;
-import org.springframework.ai.chat.model.ChatResponse;
-import org.springframework.ai.chat.prompt.Prompt;
-import org.springframework.ai.vertexai.gemini.VertexAiGeminiChatModel;
-import org.springframework.ai.vertexai.gemini.VertexAiGeminiChatOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import project.backend.business.post.implement.engine.SummaryOutputFormat;
 import project.backend.business.post.request.CreatePostServiceRequest;
-import project.backend.business.post.request.summary.SummaryOption;
+import project.backend.business.post.response.dto.PageContentDto;
 import project.backend.business.post.response.dto.SummaryResultDto;
 import project.backend.business.post.util.JsonParser;
+import project.backend.business.post.util.SummaryPromptBuilder;
+import project.backend.business.post.util.TextChunker;
+import project.backend.business.post.util.UrlNormalizer;
 import project.backend.common.error.CustomException;
 import project.backend.common.error.ErrorCode;
+import project.backend.entity.post.Post;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class SummaryManager {
 
-  private final VertexAiGeminiChatModel chatModel;
+  private final SummaryModelClient summaryModelClient;
+  private final SummaryCacheManager summaryCacheManager;
+  private final SummaryFlightManager summaryFlightManager;
+  private final PageFetcher pageFetcher;
+  private final ThreadPoolTaskExecutor summaryChunkExecutor;
+  private final MeterRegistry meterRegistry;
+
+  @Value("${summary.long-document.threshold-tokens:12000}")
+  private int longDocumentThresholdTokens;
+
+  @Value("${summary.long-document.chunk-tokens:4000}")
+  private int chunkTokens;
+
+  @Value("${summary.long-document.max-chunks:12}")
+  private int maxChunks;
 
   public SummaryResultDto summarize(CreatePostServiceRequest createPostServiceRequest) {
-    Prompt prompt = createPrompt(createPostServiceRequest);
-    ChatResponse response = chatModel.call(prompt);
-    String responseContent = response.getResult()
-                                     .getOutput()
-                                     .getContent();
+    String cacheKey = summaryCacheManager.createKey(createPostServiceRequest);
 
-    JSONObject jsonObject = JsonParser.parseJsonFromText(responseContent);
-    Map<String, String> summaryResult = extractSummaryDataFromJson(jsonObject);
+    return summaryCacheManager.get(cacheKey)
+                              .orElseGet(() -> summaryFlightManager.execute(cacheKey, () -> {
+                                SummaryResultDto summaryResultDto = requestSummary(
+                                    createPostServiceRequest);
+                                summaryCacheManager.put(cacheKey, summaryResultDto);
+                                return summaryResultDto;
+                              }));
+  }
 
-    return SummaryResultDto.builder()
-                           .title(summaryResult.get("title"))
-                           .content(summaryResult.get("content"))
-                           .build();
+  // 요약 길이와 URL 이 그대로면 원문을 다시 읽지 않고 기존 요약을 어조/언어에 맞게 다시 씀
+  // 같은 게시글에서 같은 옵션으로 다시 요청하면 모델을 호출하지 않도록 파생 결과도 캐시
+  public SummaryResultDto resummarize(Post post,
+      CreatePostServiceRequest createPostServiceRequest) {
+    if (!canDeriveFrom(post, createPostServiceRequest)) {
+      return summarize(createPostServiceRequest);
+    }
+
+    Optional<SummaryResultDto> cachedSummary = readCachedSummary(createPostServiceRequest);
+    if (cachedSummary.isPresent()) {
+      return cachedSummary.get();
+    }
+
+    String derivedKey = summaryCacheManager.createDerivedKey(createPostServiceRequest,
+        post.getTitle(), post.getContent());
+    return summaryCacheManager.get(derivedKey).orElseGet(() -> {
+      String promptMessage = SummaryPromptBuilder.createDerivationPrompt(
+          createPostServiceRequest.getOption(), post.getTitle(), post.getContent());
+      SummaryResultDto summaryResultDto = completeSummary(
+          summaryModelClient.call(promptMessage, SummaryOutputFormat.JSON, this::parseSummary));
+      summaryCacheManager.put(derivedKey, summaryResultDto);
+      return summaryResultDto;
+    });
   }
 
-  private Prompt createPrompt(CreatePostServiceRequest createPostServiceRequest) {
-    SummaryOption options = createPostServiceRequest.getOption();
-
-    String promptMessage = "URL: " + createPostServiceRequest.getUrl() + "\n" +
-        "Summarize the website corresponding to the URL below in a blog style according to the following summary conditions.\n"
-        + "Please also recommend the title, composed only of English letters or Hangul, and "
-        + "ensure it is less than 30 characters, including spaces.\n"
-        + "The answer is given in json format string with title and content as keys.\n"
-        + "Translate the content into the summary language!\n"
-        + "Summary conditions: \n"
-        + "Summary length: " + options.getLevel().getLines() + "\n"
-        + "Summary tone:" + options.getTone().getValue() + "\n"
-        + "Summary language: " + options.getLanguage().getValue() + "\n"
-        + "Summary keywords: " + options.getKeywords();
-
-    return new Prompt(promptMessage,
-        VertexAiGeminiChatOptions.builder()
-                                 .withModel(VertexAiGeminiChatModel.ChatModel.GEMINI_1_5_FLASH)
-                                 .build());
+  public Optional<SummaryResultDto> readCachedSummary(
+      CreatePostServiceRequest createPostServiceRequest) {
+    return summaryCacheManager.get(summaryCacheManager.createKey(createPostServiceRequest));
   }
 
-  private Map<String, String> extractSummaryDataFromJson(JSONObject jsonObject) {
+  // 모델 응답을 토큰 단위로 흘려보냄. 완료 후 completeStreamedSummary 로 최종 결과를 확정
+  public Flux<String> streamSummary(CreatePostServiceRequest createPostServiceRequest) {
+    return Flux.defer(() -> summaryModelClient.stream(createSummaryMessage(
+                   createPostServiceRequest, pageFetcher.fetch(createPostServiceRequest.getUrl())),
+                   SummaryOutputFormat.JSON))
+               .subscribeOn(Schedulers.boundedElastic());
+  }
+
+  public SummaryResultDto completeStreamedSummary(
+      CreatePostServiceRequest createPostServiceRequest, String responseContent) {
+    SummaryResultDto summaryResultDto = completeSummary(parseSummary(responseContent, true));
+    summaryCacheManager.put(summaryCacheManager.createKey(createPostServiceRequest),
+        summaryResultDto);
+    return summaryResultDto;
+  }
+
+  // 요약 출처(summary_level)를 기록하기 전에 만든 게시글은 당시 요약 길이를 알 수 없어 파생하지 않고 전체 요약
+  // 이때 PostManager.updateSummary 가 요약 출처를 기록하므로 다음 재요약부터는 파생 가능
+  private boolean canDeriveFrom(Post post, CreatePostServiceRequest createPostServiceRequest) {
+    return post.getSummaryLevel() != null
+        && post.getSummaryLevel().equals(createPostServiceRequest.getOption().getLevel().name())
+        && UrlNormalizer.normalize(post.getUrl())
+                        .equals(UrlNormalizer.normalize(createPostServiceRequest.getUrl()));
+  }
+
+  private SummaryResultDto requestSummary(CreatePostServiceRequest createPostServiceRequest) {
+    Optional<PageContentDto> pageContent = pageFetcher.fetch(createPostServiceRequest.getUrl());
+    return completeSummary(
+        summaryModelClient.call(createSummaryMessage(createPostServiceRequest, pageContent),
+            SummaryOutputFormat.JSON, this::parseSummary));
+  }
+
+  // 본문이 길면 조각별로 핵심을 먼저 뽑고(map), 그 결과로 최종 요약을 요청(reduce)
+  private String createSummaryMessage(CreatePostServiceRequest createPostServiceRequest,
+      Optional<PageContentDto> pageContent) {
+    if (pageContent.isEmpty()
+        || TextChunker.estimateTokens(pageContent.get().getText()) <= longDocumentThresholdTokens) {
+      return SummaryPromptBuilder.createSummaryPrompt(createPostServiceRequest, pageContent);
+    }
+
+    PageContentDto content = pageContent.get();
+    List<String> chunks = TextChunker.split(content.getText(), chunkTokens);
+    log.info("[SummaryManager] 긴 문서 요약. url: {}, chunks: {}",
+        createPostServiceRequest.getUrl(), chunks.size());
+    // 한 요약이 모델 호출을 무한정 늘리지 않도록 이웃한 조각을 합쳐 조각 수를 제한 (문서 뒷부분도 모두 요약에 포함)
+    if (chunks.size() > maxChunks) {
+      log.info("[SummaryManager] 조각 수 제한으로 이웃한 조각 병합. url: {}, chunks: {} -> {}",
+          createPostServiceRequest.getUrl(), chunks.size(), maxChunks);
+      meterRegistry.counter("summary.long-document.merged").increment();
+      chunks = TextChunker.merge(chunks, maxChunks);
+    }
+
+    List<String> chunkNotes = summarizeChunks(chunks);
+    return SummaryPromptBuilder.createReducePrompt(createPostServiceRequest.getOption(),
+        content.getTitle(), chunkNotes);
+  }
+
+  private List<String> summarizeChunks(List<String> chunks) {
+    List<CompletableFuture<String>> futures = chunks.stream()
+                                                    .map(chunk -> CompletableFuture.supplyAsync(
+                                                        () -> summarizeChunk(chunk),
+                                                        summaryChunkExecutor))
+                                                    .toList();
     try {
-      String title = jsonObject.getString("title");
-      String content = jsonObject.getString("content");
+      return futures.stream()
+                    .map(CompletableFuture::join)
+                    .toList();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  private String summarizeChunk(String chunk) {
+    return summaryCacheManager.getChunkSummary(chunk).orElseGet(() -> {
+      String chunkSummary = summaryModelClient.call(SummaryPromptBuilder.createChunkPrompt(chunk),
+          SummaryOutputFormat.TEXT, this::requireText);
+      summaryCacheManager.putChunkSummary(chunk, chunkSummary);
+      return chunkSummary;
+    });
+  }
+
+  private String requireText(String responseContent) {
+    if (!StringUtils.hasText(responseContent)) {
+      throw new CustomException(ErrorCode.INVALID_SUMMARY);
+    }
+    return responseContent;
+  }
+
+  // 첫 요청 응답의 형식 유효성을 지표로 남김 (예비 요청 응답은 제외). 본문만 있고 제목이 빠진 경우는 completeSummary 에서 보완
+  private SummaryResultDto parseSummary(String responseContent, boolean primary) {
+    Map<String, String> summaryResult;
+    try {
+      summaryResult = JsonParser.parseStringFields(responseContent);
+    } catch (CustomException e) {
+      countFirstPass(primary, "invalid");
+      throw e;
+    }
+    String title = summaryResult.get("title");
+    String content = summaryResult.get("content");
+
+    if (!StringUtils.hasText(content)) {
+      countFirstPass(primary, "invalid");
+      throw new CustomException(ErrorCode.INVALID_SUMMARY);
+    }
+    countFirstPass(primary, StringUtils.hasText(title) ? "valid" : "missing_title");
+
+    return SummaryResultDto.builder()
+                           .title(title)
+                           .content(content)
+                           .build();
+  }
 
-      Map<String, String> summaryDataMap = new HashMap<>();
+  // 제목만 빠졌으면 전체를 다시 요약하지 않고 제목만 짧게 다시 요청
+  private SummaryResultDto completeSummary(SummaryResultDto summaryResultDto) {
+    if (StringUtils.hasText(summaryResultDto.getTitle())) {
+      return summaryResultDto;
+    }
 
-      summaryDataMap.put("title", title);
-      summaryDataMap.put("content", content);
+    try {
+      String title = summaryModelClient.call(
+          SummaryPromptBuilder.createTitleRepairPrompt(summaryResultDto.getContent()),
+          SummaryOutputFormat.JSON, this::parseTitle);
+      meterRegistry.counter("summary.output.repair", "result", "success").increment();
 
-      return summaryDataMap;
+      return SummaryResultDto.builder()
+                             .title(title)
+                             .content(summaryResultDto.getContent())
+                             .build();
+    } catch (CustomException e) {
+      meterRegistry.counter("summary.output.repair", "result", "failure").increment();
+      throw e;
+    }
+  }
 
-    } catch (JSONException e) {
+  private String parseTitle(String responseContent) {
+    String title = JsonParser.parseStringFields(responseContent).get("title");
+    if (!StringUtils.hasText(title)) {
       throw new CustomException(ErrorCode.INVALID_SUMMARY);
     }
+    return title;
+  }
+
+  private void countFirstPass(boolean primary, String result) {
+    if (!primary) {
+      return;
+    }
+    meterRegistry.counter("summary.output.first-pass", "result", result).increment();
   }
 }
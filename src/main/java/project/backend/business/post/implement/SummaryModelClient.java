@@ -0,0 +1,269 @@
+package project.backend.business.post.implement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import project.backend.business.post.implement.engine.SummaryEngine;
+import project.backend.business.post.implement.engine.SummaryOutputFormat;
+import project.backend.common.error.CustomException;
+import project.backend.common.error.ErrorCode;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.SignalType;
+
+// 요약 모델 호출 담당. 동시 호출 제한, 차단기, 헤징(지연 시 예비 요청)을 적용
+@Slf4j
+@Component
+public class SummaryModelClient {
+
+  private final SummaryEngine summaryEngine;
+  private final SummaryConcurrencyLimiter summaryConcurrencyLimiter;
+  private final SummaryCircuitBreaker summaryCircuitBreaker;
+  private final ThreadPoolTaskExecutor summaryModelExecutor;
+
+  private final String primaryModel;
+  private final String fallbackModel;
+  private final boolean hedgeEnabled;
+  private final long hedgeDelayMillis;
+  private final long timeoutMillis;
+
+  public SummaryModelClient(SummaryEngine summaryEngine,
+      SummaryConcurrencyLimiter summaryConcurrencyLimiter,
+      SummaryCircuitBreaker summaryCircuitBreaker,
+      ThreadPoolTaskExecutor summaryModelExecutor,
+      @Value("${summary.model.primary:gemini-1.5-flash-001}") String primaryModel,
+      @Value("${summary.model.fallback:}") String fallbackModel,
+      @Value("${summary.model.hedge.enabled:true}") boolean hedgeEnabled,
+      @Value("${summary.model.hedge.delay-millis:8000}") long hedgeDelayMillis,
+      @Value("${summary.model.timeout-millis:60000}") long timeoutMillis) {
+    this.summaryEngine = summaryEngine;
+    this.summaryConcurrencyLimiter = summaryConcurrencyLimiter;
+    this.summaryCircuitBreaker = summaryCircuitBreaker;
+    this.summaryModelExecutor = summaryModelExecutor;
+    this.primaryModel = primaryModel;
+    this.fallbackModel = StringUtils.hasText(fallbackModel) ? fallbackModel : primaryModel;
+    this.hedgeEnabled = hedgeEnabled;
+    this.hedgeDelayMillis = hedgeDelayMillis;
+    this.timeoutMillis = timeoutMillis;
+  }
+
+  // parser 를 통과한 첫 응답을 반환. 첫 요청이 hedge.delay-millis 안에 끝나지 않거나 실패하면 예비 모델로 한 번 더 요청
+  public <T> T call(String promptMessage, SummaryOutputFormat outputFormat,
+      Function<String, T> parser) {
+    return call(promptMessage, outputFormat,
+        (ResponseParser<T>) (responseContent, primary) -> parser.apply(responseContent));
+  }
+
+  // 첫 요청의 응답인지(예비 요청이 아닌지)에 따라 처리가 달라지는 parser 용
+  public <T> T call(String promptMessage, SummaryOutputFormat outputFormat,
+      ResponseParser<T> parser) {
+    HedgedCall<T> hedgedCall = new HedgedCall<>(promptMessage, outputFormat, parser);
+    hedgedCall.start();
+
+    try {
+      return hedgedCall.result.get(timeoutMillis, TimeUnit.MILLISECONDS);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new CustomException(ErrorCode.INVALID_SUMMARY);
+    } catch (TimeoutException e) {
+      log.warn("[SummaryModel] 모델 응답 시간 초과. timeoutMillis: {}", timeoutMillis);
+      hedgedCall.cancel();
+      throw new CustomException(ErrorCode.SUMMARY_MODEL_UNAVAILABLE);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      hedgedCall.cancel();
+      throw new CustomException(ErrorCode.SUMMARY_MODEL_UNAVAILABLE);
+    }
+  }
+
+  // 스트리밍은 이미 내보낸 토큰을 되돌릴 수 없으므로 헤징 없이 차단기와 동시 호출 제한만 적용
+  public Flux<String> stream(String promptMessage, SummaryOutputFormat outputFormat) {
+    return Flux.defer(() -> {
+      summaryCircuitBreaker.acquirePermission();
+      long startNanos;
+      try {
+        startNanos = summaryConcurrencyLimiter.acquire();
+      } catch (CustomException e) {
+        summaryCircuitBreaker.onIgnored();
+        throw e;
+      }
+
+      return summaryEngine.stream(promptMessage, primaryModel, outputFormat)
+                          .doFinally(signal -> {
+                            releaseStreamPermit(signal, startNanos);
+                            recordStreamResult(signal, System.nanoTime() - startNanos);
+                          });
+    });
+  }
+
+  // 연결 종료로 취소된 스트림은 일부만 받은 지연이므로 동시 호출 한도에 반영하지 않음
+  private void releaseStreamPermit(SignalType signal, long startNanos) {
+    if (signal == SignalType.CANCEL) {
+      summaryConcurrencyLimiter.releaseIgnored();
+    } else {
+      summaryConcurrencyLimiter.release(startNanos, signal == SignalType.ON_COMPLETE);
+    }
+  }
+
+  private void recordStreamResult(SignalType signal, long latencyNanos) {
+    if (signal == SignalType.ON_COMPLETE) {
+      summaryCircuitBreaker.onSuccess(latencyNanos);
+    } else if (signal == SignalType.ON_ERROR) {
+      summaryCircuitBreaker.onError();
+    } else {
+      summaryCircuitBreaker.onIgnored();
+    }
+  }
+
+  public interface ResponseParser<T> {
+
+    T parse(String responseContent, boolean primary);
+  }
+
+  private String request(String promptMessage, String model, SummaryOutputFormat outputFormat) {
+    summaryCircuitBreaker.acquirePermission();
+    long startNanos = System.nanoTime();
+    try {
+      String content = summaryConcurrencyLimiter.execute(
+          () -> summaryEngine.call(promptMessage, model, outputFormat));
+      summaryCircuitBreaker.onSuccess(System.nanoTime() - startNanos);
+      return content;
+    } catch (CustomException e) {
+      summaryCircuitBreaker.onIgnored();
+      throw e;
+    } catch (RuntimeException e) {
+      // 헤징에서 진 요청이나 시간 초과로 취소된 요청은 모델 장애로 보지 않음
+      if (Thread.currentThread().isInterrupted()) {
+        summaryCircuitBreaker.onIgnored();
+        throw e;
+      }
+      log.warn("[SummaryModel] 모델 호출 실패. model: {}, errMsg: {}", model, e.getMessage());
+      summaryCircuitBreaker.onError();
+      throw e;
+    }
+  }
+
+  // 첫 요청과 예비 요청 중 먼저 유효한 결과를 낸 쪽을 사용하고, 둘 다 실패하면 먼저 실패한 요청의 예외를 전달
+  // 결과가 정해지거나 시간 초과되면 남은 요청은 스레드를 인터럽트해 취소
+  private class HedgedCall<T> {
+
+    private final String promptMessage;
+    private final SummaryOutputFormat outputFormat;
+    private final ResponseParser<T> parser;
+    private final CompletableFuture<T> result = new CompletableFuture<>();
+    private final List<FutureTask<T>> attempts = new ArrayList<>();
+
+    private boolean hedgeStarted;
+    private int runningAttempts;
+    private Throwable firstFailure;
+
+    private HedgedCall(String promptMessage, SummaryOutputFormat outputFormat,
+        ResponseParser<T> parser) {
+      this.promptMessage = promptMessage;
+      this.outputFormat = outputFormat;
+      this.parser = parser;
+    }
+
+    private void start() {
+      attempt(primaryModel, true);
+      if (hedgeEnabled) {
+        CompletableFuture.runAsync(this::startHedge,
+            CompletableFuture.delayedExecutor(hedgeDelayMillis, TimeUnit.MILLISECONDS,
+                summaryModelExecutor));
+      }
+    }
+
+    private synchronized void startHedge() {
+      if (result.isDone() || hedgeStarted) {
+        return;
+      }
+      hedgeStarted = true;
+      log.info("[SummaryModel] 예비 요청 시작. model: {}", fallbackModel);
+      attempt(fallbackModel, false);
+    }
+
+    private synchronized void attempt(String model, boolean primary) {
+      runningAttempts++;
+      FutureTask<T> task = new FutureTask<>(
+          () -> parser.parse(request(promptMessage, model, outputFormat), primary)) {
+        @Override
+        protected void done() {
+          onAttemptDone(this);
+        }
+      };
+      attempts.add(task);
+      try {
+        summaryModelExecutor.execute(task);
+      } catch (RejectedExecutionException e) {
+        attempts.remove(task);
+        onAttemptFailed(new CustomException(ErrorCode.SUMMARY_MODEL_OVERLOADED));
+      }
+    }
+
+    private synchronized void onAttemptDone(FutureTask<T> task) {
+      if (task.isCancelled()) {
+        runningAttempts--;
+        return;
+      }
+      try {
+        T value = task.get();
+        runningAttempts--;
+        result.complete(value);
+        cancelAttempts();
+      } catch (ExecutionException e) {
+        onAttemptFailed(e.getCause());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        onAttemptFailed(e);
+      }
+    }
+
+    private synchronized void onAttemptFailed(Throwable e) {
+      runningAttempts--;
+      if (firstFailure == null) {
+        firstFailure = e;
+      }
+      if (result.isDone()) {
+        return;
+      }
+      if (hedgeEnabled && !hedgeStarted && !isLocalRejection(firstFailure)) {
+        startHedge();
+      } else if (runningAttempts == 0) {
+        result.completeExceptionally(firstFailure);
+      }
+    }
+
+    // 호출 측이 결과를 더 기다리지 않으므로 예비 요청도 시작하지 않고 진행 중인 요청을 취소
+    private synchronized void cancel() {
+      result.cancel(false);
+      cancelAttempts();
+    }
+
+    private synchronized void cancelAttempts() {
+      // cancel 이 done 을 바로 호출하며 목록을 건드리지 않도록 복사본을 순회
+      for (FutureTask<T> attempt : List.copyOf(attempts)) {
+        attempt.cancel(true);
+      }
+      attempts.clear();
+    }
+
+    // 차단기, 동시 호출 제한으로 거절된 경우 예비 요청도 같은 이유로 거절되므로 바로 실패
+    private boolean isLocalRejection(Throwable e) {
+      return e instanceof CustomException customException
+          && (customException.getErrorCode() == ErrorCode.SUMMARY_MODEL_UNAVAILABLE
+          || customException.getErrorCode() == ErrorCode.SUMMARY_MODEL_OVERLOADED);
+    }
+  }
+}
@@ -0,0 +1,19 @@
+package project.backend.business.post.implement;
+
+import project.backend.common.error.ErrorCode;
+
+// 스트리밍 요약 진행 상황을 전달받는 콜백
+public interface SummaryStreamListener {
+
+  void onFragment(String field, String text);
+
+  void onComplete(Long postId);
+
+  void onError(ErrorCode errorCode);
+
+  // 클라이언트 연결이 끊기거나 시간 초과로 더 이상 전송할 수 없는 상태
+  boolean isClosed();
+
+  // 연결이 닫히면 실행할 콜백 등록 (이미 닫혔다면 바로 실행)
+  void onClose(Runnable callback);
+}
@@ -0,0 +1,140 @@
+package project.backend.business.post.implement;
+
+import java.util.Objects;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import project.backend.business.post.request.CreatePostServiceRequest;
+import project.backend.business.post.response.dto.SummaryResultDto;
+import project.backend.business.post.util.SummaryStreamParser;
+import project.backend.business.user.implement.UserReader;
+import project.backend.common.error.CustomException;
+import project.backend.common.error.ErrorCode;
+import project.backend.entity.post.Post;
+import project.backend.entity.user.User;
+import reactor.core.Disposable;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SummaryStreamManager {
+
+  private final SummaryManager summaryManager;
+  private final PostManager postManager;
+  private final PostReuseManager postReuseManager;
+  private final PostDraftManager postDraftManager;
+  private final UserReader userReader;
+  private final TransactionTemplate transactionTemplate;
+  private final ThreadPoolTaskExecutor summaryStreamExecutor;
+
+  public void streamSummary(Long userId, CreatePostServiceRequest createPostServiceRequest,
+      SummaryStreamListener listener) {
+    // 재사용할 게시글이 있으면 모델을 호출하지 않고 저장된 요약을 그대로 전송
+    Optional<Post> reusedPost = postReuseManager.reusePost(userId, createPostServiceRequest);
+    if (reusedPost.isPresent()) {
+      listener.onFragment(SummaryStreamParser.TITLE, reusedPost.get().getTitle());
+      listener.onFragment(SummaryStreamParser.CONTENT, reusedPost.get().getContent());
+      listener.onComplete(reusedPost.get().getId());
+      return;
+    }
+
+    Optional<SummaryResultDto> cachedSummary = summaryManager.readCachedSummary(
+        createPostServiceRequest);
+    if (cachedSummary.isPresent()) {
+      listener.onFragment(SummaryStreamParser.TITLE, cachedSummary.get().getTitle());
+      listener.onFragment(SummaryStreamParser.CONTENT, cachedSummary.get().getContent());
+      completeStream(userId, createPostServiceRequest, cachedSummary.get(), listener);
+      return;
+    }
+
+    SummaryStreamParser parser = new SummaryStreamParser();
+    StringBuilder responseContent = new StringBuilder();
+
+    Disposable subscription = summaryManager.streamSummary(createPostServiceRequest)
+                  .subscribe(
+                      chunk -> {
+                        responseContent.append(chunk);
+                        parser.feed(chunk)
+                              .forEach(fragment -> listener.onFragment(fragment.field(),
+                                  fragment.text()));
+                      },
+                      error -> {
+                        if (listener.isClosed()) {
+                          return;
+                        }
+                        // 차단기 열림, 동시 호출 한도 초과 등은 오류 코드를 그대로 전달
+                        if (error instanceof CustomException customException) {
+                          log.warn("[SummaryStream] 요약 스트리밍 실패. errMsg: {}",
+                              customException.getMessage());
+                          listener.onError(customException.getErrorCode());
+                          return;
+                        }
+                        log.error("[SummaryStream] 요약 스트리밍 중 예외 발생", error);
+                        listener.onError(ErrorCode.INVALID_SUMMARY);
+                      },
+                      () -> {
+                        // 클라이언트가 떠난 뒤에는 저장하지 않음
+                        if (listener.isClosed()) {
+                          log.info("[SummaryStream] 연결 종료로 요약 저장 생략. url: {}",
+                              createPostServiceRequest.getUrl());
+                          return;
+                        }
+                        // 제목 보완 모델 호출과 DB 저장은 블로킹이므로 모델 스트림 콜백 스레드에서 하지 않음
+                        try {
+                          summaryStreamExecutor.execute(() -> finishStream(userId,
+                              createPostServiceRequest, responseContent.toString(), listener));
+                        } catch (TaskRejectedException e) {
+                          log.warn("[SummaryStream] 완료 처리 큐가 가득 차 요청을 거절합니다. url: {}",
+                              createPostServiceRequest.getUrl());
+                          listener.onError(ErrorCode.SUMMARY_JOB_REJECTED);
+                        }
+                      });
+    // 연결이 끊기면 모델 스트림도 취소
+    listener.onClose(subscription::dispose);
+  }
+
+  private void finishStream(Long userId, CreatePostServiceRequest createPostServiceRequest,
+      String responseContent, SummaryStreamListener listener) {
+    SummaryResultDto summaryResultDto;
+    try {
+      summaryResultDto = summaryManager.completeStreamedSummary(createPostServiceRequest,
+          responseContent);
+    } catch (CustomException e) {
+      listener.onError(e.getErrorCode());
+      return;
+    } catch (RuntimeException e) {
+      log.error("[SummaryStream] 요약 완료 처리 중 예외 발생", e);
+      listener.onError(ErrorCode.INVALID_SUMMARY);
+      return;
+    }
+    completeStream(userId, createPostServiceRequest, summaryResultDto, listener);
+  }
+
+  // 스트림이 끝난 뒤 최종 요약으로 게시글 저장
+  private void completeStream(Long userId, CreatePostServiceRequest createPostServiceRequest,
+      SummaryResultDto summaryResultDto, SummaryStreamListener listener) {
+    try {
+      // 비로그인 요약은 redis 임시 저장본으로 보관
+      if (userId == null) {
+        listener.onComplete(
+            postDraftManager.createDraft(createPostServiceRequest, summaryResultDto));
+        return;
+      }
+
+      Post post = transactionTemplate.execute(status -> {
+        User user = userReader.readUserByIdOrNull(userId);
+        return postManager.createPost(user, createPostServiceRequest, summaryResultDto);
+      });
+      listener.onComplete(Objects.requireNonNull(post).getId());
+    } catch (CustomException e) {
+      listener.onError(e.getErrorCode());
+    } catch (Exception e) {
+      log.error("[SummaryStream] 요약 게시글 저장 중 예외 발생", e);
+      listener.onError(ErrorCode.INVALID_SUMMARY);
+    }
+  }
+}
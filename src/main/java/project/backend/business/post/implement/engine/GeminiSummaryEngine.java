@@ -0,0 +1,48 @@
+package project.backend.business.post.implement.engine;
+
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.vertexai.gemini.VertexAiGeminiChatModel;
+import org.springframework.ai.vertexai.gemini.VertexAiGeminiChatOptions;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+@Component
+@Profile("!stub")
+@RequiredArgsConstructor
+public class GeminiSummaryEngine implements SummaryEngine {
+
+  private static final String JSON_MIME_TYPE = "application/json";
+
+  private final VertexAiGeminiChatModel chatModel;
+
+  @Override
+  public String call(String promptMessage, String model, SummaryOutputFormat outputFormat) {
+    return chatModel.call(createPrompt(promptMessage, model, outputFormat))
+                    .getResult()
+                    .getOutput()
+                    .getContent();
+  }
+
+  @Override
+  public Flux<String> stream(String promptMessage, String model,
+      SummaryOutputFormat outputFormat) {
+    return chatModel.stream(createPrompt(promptMessage, model, outputFormat))
+                    .filter(response -> response.getResult() != null
+                        && response.getResult().getOutput() != null)
+                    .map(response -> response.getResult().getOutput().getContent())
+                    .filter(Objects::nonNull);
+  }
+
+  private Prompt createPrompt(String promptMessage, String model,
+      SummaryOutputFormat outputFormat) {
+    VertexAiGeminiChatOptions.Builder options = VertexAiGeminiChatOptions.builder()
+                                                                         .withModel(model);
+    if (outputFormat == SummaryOutputFormat.JSON) {
+      options.withResponseMimeType(JSON_MIME_TYPE);
+    }
+    return new Prompt(promptMessage, options.build());
+  }
+}
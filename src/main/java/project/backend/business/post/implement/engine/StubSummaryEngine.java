@@ -0,0 +1,119 @@
+package project.backend.business.post.implement.engine;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import lombok.extern.slf4j.Slf4j;
+import org.json.JSONObject;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import project.backend.business.post.util.HashGenerator;
+import reactor.core.publisher.Flux;
+
+// 자격 증명과 비용 없이 요약 경로 전체를 부하 테스트하기 위한 스텁 (stub 프로필)
+// 응답 본문은 프롬프트로 결정되고, 지연(로그 정규 분포)과 오류는 seed 로 재현 가능
+@Slf4j
+@Component
+@Profile("stub")
+public class StubSummaryEngine implements SummaryEngine {
+
+  private static final String WORDS = "lorem ipsum dolor sit amet consectetur adipiscing elit "
+      + "sed do eiusmod tempor incididunt ut labore et dolore magna aliqua";
+
+  private final Random random;
+  private final long medianLatencyMillis;
+  private final double latencySigma;
+  private final double errorRate;
+  private final int outputChars;
+  private final int streamChunkChars;
+
+  public StubSummaryEngine(
+      @Value("${summary.engine.stub.seed:42}") long seed,
+      @Value("${summary.engine.stub.median-latency-millis:1500}") long medianLatencyMillis,
+      @Value("${summary.engine.stub.latency-sigma:0.5}") double latencySigma,
+      @Value("${summary.engine.stub.error-rate:0.0}") double errorRate,
+      @Value("${summary.engine.stub.output-chars:1200}") int outputChars,
+      @Value("${summary.engine.stub.stream-chunk-chars:20}") int streamChunkChars) {
+    this.random = new Random(seed);
+    this.medianLatencyMillis = medianLatencyMillis;
+    this.latencySigma = latencySigma;
+    this.errorRate = errorRate;
+    this.outputChars = outputChars;
+    this.streamChunkChars = streamChunkChars;
+    log.info("[StubSummaryEngine] 스텁 요약 엔진 사용. medianLatencyMillis: {}, errorRate: {}",
+        medianLatencyMillis, errorRate);
+  }
+
+  @Override
+  public String call(String promptMessage, String model, SummaryOutputFormat outputFormat) {
+    long latencyMillis = nextLatencyMillis();
+    boolean failure = nextFailure();
+    try {
+      Thread.sleep(latencyMillis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("stub engine interrupted", e);
+    }
+
+    if (failure) {
+      throw new IllegalStateException("stub engine error");
+    }
+    return createResponse(promptMessage, outputFormat);
+  }
+
+  @Override
+  public Flux<String> stream(String promptMessage, String model,
+      SummaryOutputFormat outputFormat) {
+    long latencyMillis = nextLatencyMillis();
+    boolean failure = nextFailure();
+    List<String> pieces = splitIntoPieces(createResponse(promptMessage, outputFormat));
+    Duration pieceDelay = Duration.ofMillis(latencyMillis / pieces.size());
+
+    Flux<String> response = Flux.fromIterable(pieces)
+                                .delayElements(pieceDelay);
+    if (failure) {
+      return response.take(pieces.size() / 2)
+                     .concatWith(Flux.error(new IllegalStateException("stub engine error")));
+    }
+    return response;
+  }
+
+  // 지연 분포의 꼬리를 재현하기 위해 로그 정규 분포 사용 (중앙값 = median-latency-millis)
+  private synchronized long nextLatencyMillis() {
+    return (long) (medianLatencyMillis * Math.exp(latencySigma * random.nextGaussian()));
+  }
+
+  private synchronized boolean nextFailure() {
+    return random.nextDouble() < errorRate;
+  }
+
+  // json 모드면 json 만, 아니면 실제 모델처럼 ```json 블록으로 감싸서 응답
+  private String createResponse(String promptMessage, SummaryOutputFormat outputFormat) {
+    String hash = HashGenerator.sha256Hex(promptMessage);
+    String[] words = WORDS.split(" ");
+
+    StringBuilder content = new StringBuilder();
+    int wordIndex = Integer.parseInt(hash.substring(0, 4), 16);
+    while (content.length() < outputChars) {
+      content.append(words[wordIndex++ % words.length]).append(' ');
+    }
+
+    JSONObject summary = new JSONObject();
+    summary.put("title", "Stub summary " + hash.substring(0, 8));
+    summary.put("content", content.toString().trim());
+    if (outputFormat == SummaryOutputFormat.JSON) {
+      return summary.toString();
+    }
+    return "```json\n" + summary + "\n```";
+  }
+
+  private List<String> splitIntoPieces(String response) {
+    List<String> pieces = new ArrayList<>();
+    for (int i = 0; i < response.length(); i += streamChunkChars) {
+      pieces.add(response.substring(i, Math.min(response.length(), i + streamChunkChars)));
+    }
+    return pieces;
+  }
+}
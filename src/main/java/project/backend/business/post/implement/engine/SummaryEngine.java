@@ -0,0 +1,11 @@
+package project.backend.business.post.implement.engine;
+
+import reactor.core.publisher.Flux;
+
+// 요약 모델 호출 구현체. 프로필로 실제 모델(Gemini)과 부하 테스트용 스텁 중 하나가 등록됨
+public interface SummaryEngine {
+
+  String call(String promptMessage, String model, SummaryOutputFormat outputFormat);
+
+  Flux<String> stream(String promptMessage, String model, SummaryOutputFormat outputFormat);
+}
@@ -0,0 +1,7 @@
+package project.backend.business.post.implement.engine;
+
+// JSON 은 모델에 json 응답(response mime type)을 강제하여 형식 오류를 줄임
+public enum SummaryOutputFormat {
+  TEXT,
+  JSON
+}
@@ -7,19 +7,19 @@ import lombok.Getter;
 @Builder
 public class PostListServiceRequest {
 
-  private final Integer page;
+  private final Long cursor;
   private final Long archiveId;
   private final String search;
+  private final String tagName;
 
-  public static PostListServiceRequest of(Integer page, Long archiveId, String search) {
-    if (page == null) {
-      page = 0;
-    }
-
+  // "#{태그}" 는 태그 이름 정확히 일치 검색, 그 외는 제목 검색
+  public static PostListServiceRequest of(Long cursor, Long archiveId, String search) {
+    boolean tagSearch = search != null && search.startsWith("#");
     return PostListServiceRequest.builder()
-                                 .page(page)
+                                 .cursor(cursor)
                                  .archiveId(archiveId)
-                                 .search(search)
+                                 .search(tagSearch ? null : search)
+                                 .tagName(tagSearch ? search.substring(1) : null)
                                  .build();
   }
 }
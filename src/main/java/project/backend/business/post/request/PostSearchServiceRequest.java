@@ -0,0 +1,27 @@
+package project.backend.business.post.request;
+
+import lombok.Builder;
+import lombok.Getter;
+import project.backend.business.post.util.SearchCursor;
+import project.backend.business.post.util.SearchCursorCodec;
+import project.backend.common.error.CustomException;
+import project.backend.common.error.ErrorCode;
+
+@Getter
+@Builder
+public class PostSearchServiceRequest {
+
+  private final String keyword;
+  private final SearchCursor cursor;
+
+  // 공백 검색어는 LIKE 대체 검색에서 모든 게시글과 일치하므로 거부
+  public static PostSearchServiceRequest of(String keyword, String cursor) {
+    if (keyword == null || keyword.isBlank()) {
+      throw new CustomException(ErrorCode.BAD_REQUEST);
+    }
+    return PostSearchServiceRequest.builder()
+                                   .keyword(keyword.trim())
+                                   .cursor(cursor == null ? null : SearchCursorCodec.decode(cursor))
+                                   .build();
+  }
+}
@@ -1,5 +1,8 @@
 package project.backend.business.post.request.summary;
 
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -30,4 +33,21 @@ public class SummaryOption {
       throw new CustomException(ErrorCode.BAD_REQUEST);
     }
   }
+
+  // 캐시 키 등에 사용하는 옵션의 정규화된 문자열 (키워드는 소문자화, 중복 제거 후 정렬)
+  public String toCanonicalString() {
+    return level.name() + "|" + tone.name() + "|" + language.name() + "|" + canonicalKeywords();
+  }
+
+  private String canonicalKeywords() {
+    if (keywords == null || keywords.isBlank()) {
+      return "";
+    }
+    return Arrays.stream(keywords.split(","))
+                 .map(keyword -> keyword.trim().toLowerCase(Locale.ROOT))
+                 .filter(keyword -> !keyword.isEmpty())
+                 .distinct()
+                 .sorted()
+                 .collect(Collectors.joining(","));
+  }
 }
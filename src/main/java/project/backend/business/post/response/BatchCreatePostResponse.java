@@ -0,0 +1,19 @@
+package project.backend.business.post.response;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+import project.backend.business.post.response.dto.BatchCreatePostDto;
+
+@Getter
+@Builder
+public class BatchCreatePostResponse {
+
+  private final List<BatchCreatePostDto> results;
+
+  public static BatchCreatePostResponse from(List<BatchCreatePostDto> results) {
+    return BatchCreatePostResponse.builder()
+                                  .results(results)
+                                  .build();
+  }
+}
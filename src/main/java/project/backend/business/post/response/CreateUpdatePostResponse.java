@@ -11,8 +11,12 @@ public class CreateUpdatePostResponse {
   private final Long postId;
 
   public static CreateUpdatePostResponse from(Post post) {
+    return from(post.getId());
+  }
+
+  public static CreateUpdatePostResponse from(Long postId) {
     return CreateUpdatePostResponse.builder()
-                                   .postId(post.getId())
+                                   .postId(postId)
                                    .build();
   }
 }
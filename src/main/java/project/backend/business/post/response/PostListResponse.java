@@ -10,10 +10,18 @@ import project.backend.business.post.response.dto.PostListDto;
 public class PostListResponse {
 
   private final List<PostListDto> postList;
+  private final Long nextCursor;
+  private final boolean hasNext;
+
+  // 한 건 더 조회한 결과로 다음 페이지 존재 여부를 판단 (count 쿼리 없이)
+  public static PostListResponse of(List<PostListDto> postList, int pageSize) {
+    boolean hasNext = postList.size() > pageSize;
+    List<PostListDto> pagePostList = hasNext ? postList.subList(0, pageSize) : postList;
 
-  public static PostListResponse from(List<PostListDto> postList) {
     return PostListResponse.builder()
-                           .postList(postList)
+                           .postList(pagePostList)
+                           .nextCursor(hasNext ? pagePostList.get(pageSize - 1).getId() : null)
+                           .hasNext(hasNext)
                            .build();
   }
 }
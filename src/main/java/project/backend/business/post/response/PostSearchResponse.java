@@ -0,0 +1,23 @@
+package project.backend.business.post.response;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+import project.backend.business.post.response.dto.PostListDto;
+
+@Getter
+@Builder
+public class PostSearchResponse {
+
+  private final List<PostListDto> postList;
+  private final String nextCursor;
+  private final boolean hasNext;
+
+  public static PostSearchResponse of(List<PostListDto> postList, String nextCursor) {
+    return PostSearchResponse.builder()
+                             .postList(postList)
+                             .nextCursor(nextCursor)
+                             .hasNext(nextCursor != null)
+                             .build();
+  }
+}
@@ -0,0 +1,24 @@
+package project.backend.business.post.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import project.backend.entity.job.SummaryJob;
+
+@Getter
+@Builder
+public class SummaryJobResponse {
+
+  private final String jobId;
+  private final String status;
+  private final Long postId;
+  private final String message;
+
+  public static SummaryJobResponse from(SummaryJob job) {
+    return SummaryJobResponse.builder()
+                             .jobId(job.getId())
+                             .status(job.getStatus().getValue())
+                             .postId(job.getPostId())
+                             .message(job.getErrorMessage())
+                             .build();
+  }
+}
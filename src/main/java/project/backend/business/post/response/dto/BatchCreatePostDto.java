@@ -0,0 +1,14 @@
+package project.backend.business.post.response.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class BatchCreatePostDto {
+
+  private final String url;
+  private final boolean success;
+  private final Long postId;
+  private final String message;
+}
@@ -0,0 +1,19 @@
+package project.backend.business.post.response.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import project.backend.business.post.request.summary.SummaryOption;
+
+@Getter
+@Builder
+public class BatchSummaryResultDto {
+
+  private final String url;
+  private final SummaryOption option;
+  private final SummaryResultDto summaryResult;
+  private final String errorMessage;
+
+  public boolean isSuccess() {
+    return summaryResult != null;
+  }
+}
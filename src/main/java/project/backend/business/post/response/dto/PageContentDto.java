@@ -0,0 +1,12 @@
+package project.backend.business.post.response.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class PageContentDto {
+
+  private final String title;
+  private final String text;
+}
@@ -2,9 +2,11 @@ package project.backend.business.post.response.dto;
 
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 @Getter
 @Builder
+@Jacksonized
 public class SummaryResultDto {
 
   private final String title;
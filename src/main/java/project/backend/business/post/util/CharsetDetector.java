@@ -0,0 +1,55 @@
+package project.backend.business.post.util;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class CharsetDetector {
+
+  private static final int META_SNIFF_BYTES = 4096;
+  private static final Pattern CONTENT_TYPE_CHARSET_PATTERN = Pattern.compile(
+      "charset\\s*=\\s*[\"']?([\\w.:-]+)", Pattern.CASE_INSENSITIVE);
+  private static final Pattern META_CHARSET_PATTERN = Pattern.compile(
+      "<meta[^>]+charset\\s*=\\s*[\"']?([\\w.:-]+)", Pattern.CASE_INSENSITIVE);
+
+  // BOM -> Content-Type 헤더 -> <meta charset> 순서로 판단, 모두 없으면 UTF-8
+  public static Charset detect(String contentType, byte[] body) {
+    return detectBom(body)
+        .or(() -> findCharset(CONTENT_TYPE_CHARSET_PATTERN, contentType))
+        .or(() -> findCharset(META_CHARSET_PATTERN,
+            new String(body, 0, Math.min(body.length, META_SNIFF_BYTES),
+                StandardCharsets.ISO_8859_1)))
+        .orElse(StandardCharsets.UTF_8);
+  }
+
+  private static Optional<Charset> detectBom(byte[] body) {
+    if (body.length >= 3 && (body[0] & 0xFF) == 0xEF && (body[1] & 0xFF) == 0xBB
+        && (body[2] & 0xFF) == 0xBF) {
+      return Optional.of(StandardCharsets.UTF_8);
+    }
+    if (body.length >= 2 && (body[0] & 0xFF) == 0xFE && (body[1] & 0xFF) == 0xFF) {
+      return Optional.of(StandardCharsets.UTF_16BE);
+    }
+    if (body.length >= 2 && (body[0] & 0xFF) == 0xFF && (body[1] & 0xFF) == 0xFE) {
+      return Optional.of(StandardCharsets.UTF_16LE);
+    }
+    return Optional.empty();
+  }
+
+  private static Optional<Charset> findCharset(Pattern pattern, String text) {
+    if (text == null) {
+      return Optional.empty();
+    }
+    Matcher matcher = pattern.matcher(text);
+    if (!matcher.find()) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(Charset.forName(matcher.group(1)));
+    } catch (IllegalArgumentException e) {
+      return Optional.empty();
+    }
+  }
+}
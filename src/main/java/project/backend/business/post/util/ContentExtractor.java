@@ -0,0 +1,108 @@
+package project.backend.business.post.util;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.nodes.TextNode;
+import org.jsoup.select.NodeTraversor;
+import org.jsoup.select.NodeVisitor;
+import project.backend.business.post.response.dto.PageContentDto;
+
+// html 에서 메뉴, 광고 등 본문이 아닌 요소를 제거하고 기사 본문 텍스트만 추출
+public class ContentExtractor {
+
+  private static final String BOILERPLATE_SELECTOR = String.join(", ",
+      "script", "style", "noscript", "template", "iframe", "svg", "canvas", "form", "button",
+      "nav", "header", "footer", "aside", "[role=navigation]", "[role=banner]",
+      "[role=contentinfo]", "[aria-hidden=true]", ".ad", ".ads", ".advertisement", ".share",
+      ".comment", ".comments", ".related", ".sidebar", ".breadcrumb", ".cookie");
+  private static final String MAIN_CONTENT_SELECTOR = "article, main, [role=main], [itemprop=articleBody]";
+  private static final int MIN_MAIN_CONTENT_LENGTH = 200;
+  private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+
+  public static PageContentDto extractFromHtml(String html, String baseUrl) {
+    Document document = Jsoup.parse(html, baseUrl);
+    String title = document.title();
+
+    document.select(BOILERPLATE_SELECTOR).remove();
+    Element mainContent = selectMainContent(document);
+
+    return PageContentDto.builder()
+                         .title(title)
+                         .text(toText(mainContent))
+                         .build();
+  }
+
+  public static PageContentDto extractFromText(String text) {
+    return PageContentDto.builder()
+                         .title("")
+                         .text(normalizeLines(text))
+                         .build();
+  }
+
+  // article/main 요소를 우선 사용하고, 없으면 <p> 텍스트가 가장 많이 모인 부모 요소를 본문으로 판단
+  private static Element selectMainContent(Document document) {
+    Element article = document.select(MAIN_CONTENT_SELECTOR)
+                              .stream()
+                              .max(Comparator.comparingInt(element -> element.text().length()))
+                              .orElse(null);
+    if (article != null && article.text().length() >= MIN_MAIN_CONTENT_LENGTH) {
+      return article;
+    }
+
+    Map<Element, Integer> paragraphScores = new HashMap<>();
+    for (Element paragraph : document.body().select("p")) {
+      Element parent = paragraph.parent();
+      if (parent != null) {
+        paragraphScores.merge(parent, paragraph.text().length(), Integer::sum);
+      }
+    }
+
+    return paragraphScores.entrySet()
+                          .stream()
+                          .filter(entry -> entry.getValue() >= MIN_MAIN_CONTENT_LENGTH)
+                          .max(Map.Entry.comparingByValue())
+                          .map(Map.Entry::getKey)
+                          .orElse(document.body());
+  }
+
+  // 블록 요소 경계에서 줄을 바꾸어 문단 구조를 유지
+  private static String toText(Element root) {
+    StringBuilder text = new StringBuilder();
+    NodeTraversor.traverse(new NodeVisitor() {
+      @Override
+      public void head(Node node, int depth) {
+        if (node instanceof TextNode textNode) {
+          text.append(textNode.text());
+        } else if (node instanceof Element element
+            && (element.isBlock() || element.nameIs("br"))) {
+          text.append('\n');
+        }
+      }
+
+      @Override
+      public void tail(Node node, int depth) {
+        if (node instanceof Element element && element.isBlock()) {
+          text.append('\n');
+        }
+      }
+    }, root);
+    return normalizeLines(text.toString());
+  }
+
+  private static String normalizeLines(String text) {
+    StringBuilder normalized = new StringBuilder();
+    for (String line : text.split("\n")) {
+      String trimmed = WHITESPACE_PATTERN.matcher(line).replaceAll(" ").trim();
+      if (!trimmed.isEmpty()) {
+        normalized.append(trimmed).append('\n');
+      }
+    }
+    return normalized.toString().trim();
+  }
+}
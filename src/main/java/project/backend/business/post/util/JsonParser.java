@@ -1,30 +1,125 @@
 package project.backend.business.post.util;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import org.json.JSONException;
-import org.json.JSONObject;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.JsonEOFException;
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import project.backend.common.error.CustomException;
 import project.backend.common.error.ErrorCode;
 
+// 모델 응답에서 json 객체를 찾아 최상위 문자열 필드를 꺼냄
+// 코드 펜스나 앞뒤 설명 문장이 있어도 첫 번째로 닫히는 객체를 사용하고, 응답이 잘렸으면 읽힌 데까지 복구
+// 스트리밍 중인 응답도 같은 방식으로 읽으므로 SummaryStreamParser 도 이 파서를 사용
 public class JsonParser {
 
-  public static JSONObject parseJsonFromText(String text) {
-    try {
-      text = extractJsonContent(text);
-      return new JSONObject(text);
-    } catch (JSONException e) {
+  // 모델이 문자열 안에 줄바꿈을 그대로 넣거나 끝에 쉼표를 남기는 경우가 많아 허용
+  private static final JsonFactory JSON_FACTORY =
+      JsonFactory.builder()
+                 .enable(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS)
+                 .enable(JsonReadFeature.ALLOW_BACKSLASH_ESCAPING_ANY_CHARACTER)
+                 .enable(JsonReadFeature.ALLOW_TRAILING_COMMA)
+                 .enable(JsonReadFeature.ALLOW_SINGLE_QUOTES)
+                 .build();
+
+  // 설명 문장 속 중괄호 때문에 시작 위치를 잘못 잡은 경우 다음 후보를 시도하는 최대 횟수
+  private static final int MAX_CANDIDATES = 5;
+
+  // 끊긴 위치(문자열 값, 필드 이름, 콜론 뒤, 쉼표 뒤, 배열 값)에 따라 객체를 닫는 접미사를 차례로 시도
+  private static final List<String> TRUNCATION_CLOSERS =
+      List.of("\"}", "}", "\"\"}", ":\"\"}", "\":\"\"}", "\"]}", "]}");
+
+  public static Map<String, String> parseStringFields(String text) {
+    Map<String, String> fields = text == null ? null : findStringFields(text);
+    if (fields == null) {
       throw new CustomException(ErrorCode.INVALID_SUMMARY);
     }
+    return fields;
   }
 
-  private static String extractJsonContent(String text) {
-    String jsonPattern = "(?s)```json\\s*(.*?)\\s*```";
-    Pattern pattern = Pattern.compile(jsonPattern);
-    Matcher matcher = pattern.matcher(text);
-    if (!matcher.find()) {
-      throw new CustomException(ErrorCode.INVALID_SUMMARY);
+  // 아직 도착 중인 응답용. 객체가 시작되지 않았으면 빈 Map
+  public static Map<String, String> parsePartialStringFields(String text) {
+    Map<String, String> fields = findStringFields(text);
+    return fields == null ? Map.of() : fields;
+  }
+
+  private static Map<String, String> findStringFields(String text) {
+    int start = text.indexOf('{');
+    for (int i = 0; start >= 0 && i < MAX_CANDIDATES; i++) {
+      String candidate = text.substring(start);
+      try {
+        return readTopLevelStringFields(candidate);
+      } catch (IOException e) {
+        if (isTruncated(e, candidate)) {
+          return recoverTruncatedFields(candidate);
+        }
+        start = text.indexOf('{', start + 1);
+      }
+    }
+    return null;
+  }
+
+  // 객체가 닫히는 즉시 읽기를 멈추므로 뒤에 붙은 코드 펜스나 문장은 무시됨
+  private static Map<String, String> readTopLevelStringFields(String candidate)
+      throws IOException {
+    try (com.fasterxml.jackson.core.JsonParser parser = JSON_FACTORY.createParser(candidate)) {
+      parser.nextToken();
+
+      Map<String, String> fields = new HashMap<>();
+      JsonToken token;
+      while ((token = parser.nextToken()) != JsonToken.END_OBJECT) {
+        if (token == null) {
+          throw new JsonEOFException(parser, JsonToken.END_OBJECT, "truncated object");
+        }
+        String fieldName = parser.currentName();
+        if (parser.nextToken() == JsonToken.VALUE_STRING) {
+          fields.put(fieldName, parser.getText());
+        } else {
+          parser.skipChildren();
+        }
+      }
+      return fields;
+    }
+  }
+
+  // 쉼표 뒤에서 끊기면 Jackson 이 JsonEOFException 이 아닌 일반 파싱 예외를 던지므로 오류 위치가 입력 끝인지로도 판단
+  private static boolean isTruncated(IOException e, String candidate) {
+    return e instanceof JsonEOFException
+        || e instanceof JsonProcessingException processingException
+        && processingException.getLocation() != null
+        && processingException.getLocation().getCharOffset() >= candidate.length();
+  }
+
+  // 출력 길이 제한이나 스트리밍으로 응답이 중간에 끊긴 경우, 열린 문자열과 객체를 닫아 읽힌 부분까지의 값을 모음
+  private static Map<String, String> recoverTruncatedFields(String candidate) {
+    String closable = trimPartialEscape(candidate);
+    for (String closer : TRUNCATION_CLOSERS) {
+      try {
+        return readTopLevelStringFields(closable + closer);
+      } catch (IOException e) {
+        // 다음 접미사 시도
+      }
+    }
+    return new HashMap<>();
+  }
+
+  // 끝에 걸친 escape(역슬래시만 있거나 16진수 4자리가 덜 온 유니코드 escape)는 닫는 따옴표를 escape 하거나
+  // 잘못된 escape 가 되므로 제거
+  private static String trimPartialEscape(String candidate) {
+    int backslash = candidate.lastIndexOf('\\');
+    if (backslash < 0 || !candidate.substring(backslash + 1).matches("(u[0-9a-fA-F]{0,3})?")) {
+      return candidate;
+    }
+
+    int backslashCount = 0;
+    for (int i = backslash; i >= 0 && candidate.charAt(i) == '\\'; i--) {
+      backslashCount++;
     }
-    return matcher.group(1);
+    // 짝수 개면 마지막 역슬래시도 escape 된 문자이므로 그대로 둠
+    return backslashCount % 2 == 1 ? candidate.substring(0, backslash) : candidate;
   }
 }
@@ -0,0 +1,60 @@
+package project.backend.business.post.util;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+// 최대 크기와 TTL 을 가지는 프로세스 내부 LRU 캐시 (크기 초과 시 가장 오래 사용되지 않은 항목부터 제거)
+public class LocalLruCache<K, V> {
+
+  private final int maxSize;
+  private final long ttlMillis;
+  private final Clock clock;
+  private final LinkedHashMap<K, Entry<V>> entries;
+
+  public LocalLruCache(int maxSize, Duration ttl) {
+    this(maxSize, ttl, Clock.systemUTC());
+  }
+
+  public LocalLruCache(int maxSize, Duration ttl, Clock clock) {
+    this.maxSize = maxSize;
+    this.ttlMillis = ttl.toMillis();
+    this.clock = clock;
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+        return size() > LocalLruCache.this.maxSize;
+      }
+    };
+  }
+
+  public synchronized Optional<V> get(K key) {
+    Entry<V> entry = entries.get(key);
+    if (entry == null) {
+      return Optional.empty();
+    }
+    if (entry.expiresAt() <= clock.millis()) {
+      entries.remove(key);
+      return Optional.empty();
+    }
+    return Optional.of(entry.value());
+  }
+
+  public synchronized void put(K key, V value) {
+    entries.put(key, new Entry<>(value, clock.millis() + ttlMillis));
+  }
+
+  public synchronized void remove(K key) {
+    entries.remove(key);
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  private record Entry<V>(V value, long expiresAt) {
+
+  }
+}
@@ -0,0 +1,5 @@
+package project.backend.business.post.util;
+
+// 검색 결과 스냅샷 id 와 다음 페이지가 시작하는 위치
+public record SearchCursor(String searchId, int offset) {
+}
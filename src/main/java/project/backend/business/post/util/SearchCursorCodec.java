@@ -0,0 +1,33 @@
+package project.backend.business.post.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import project.backend.common.error.CustomException;
+import project.backend.common.error.ErrorCode;
+
+// 검색 커서는 (스냅샷 id, 다음 위치) 를 URL 에 안전한 문자열로 인코딩
+public class SearchCursorCodec {
+
+  private static final String SEPARATOR = ":";
+
+  public static String encode(SearchCursor cursor) {
+    String raw = cursor.searchId() + SEPARATOR + cursor.offset();
+    return Base64.getUrlEncoder()
+                 .withoutPadding()
+                 .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static SearchCursor decode(String cursor) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      String[] parts = raw.split(SEPARATOR);
+      int offset = Integer.parseInt(parts[1]);
+      if (parts.length != 2 || parts[0].isBlank() || offset < 0) {
+        throw new CustomException(ErrorCode.BAD_REQUEST);
+      }
+      return new SearchCursor(parts[0], offset);
+    } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+      throw new CustomException(ErrorCode.BAD_REQUEST);
+    }
+  }
+}
@@ -0,0 +1,84 @@
+package project.backend.business.post.util;
+
+import java.util.List;
+import java.util.Optional;
+import project.backend.business.post.request.CreatePostServiceRequest;
+import project.backend.business.post.request.summary.SummaryOption;
+import project.backend.business.post.response.dto.PageContentDto;
+
+public class SummaryPromptBuilder {
+
+  // 본문을 가져왔으면 본문을, 가져오지 못했으면 URL 을 모델에 전달
+  public static String createSummaryPrompt(CreatePostServiceRequest createPostServiceRequest,
+      Optional<PageContentDto> pageContent) {
+    String source = pageContent.map(content ->
+        "Summarize the web page content below in a blog style according to the following summary conditions.\n"
+            + "Page title: " + content.getTitle() + "\n"
+            + "Page content:\n" + content.getText() + "\n"
+            + "(End of page content)\n"
+    ).orElseGet(() ->
+        "URL: " + createPostServiceRequest.getUrl() + "\n"
+            + "Summarize the website corresponding to the URL below in a blog style according to the following summary conditions.\n"
+    );
+
+    return source + createSummaryConditions(createPostServiceRequest.getOption());
+  }
+
+  // 긴 문서의 각 조각에서 핵심만 뽑는 map 단계 프롬프트. 요약 옵션과 무관하게 만들어 조각 결과를 재사용
+  public static String createChunkPrompt(String chunk) {
+    return "The text below is one part of a longer web page.\n"
+        + "Extract the key facts, arguments, figures and conclusions of this part as concise bullet notes.\n"
+        + "Write the notes in the same language as the text and do not add information that is not in the text.\n"
+        + "Text:\n" + chunk + "\n"
+        + "(End of text)";
+  }
+
+  // 조각별 노트를 합쳐 최종 요약을 만드는 reduce 단계 프롬프트
+  public static String createReducePrompt(SummaryOption option, String title,
+      List<String> chunkNotes) {
+    StringBuilder notes = new StringBuilder();
+    for (int i = 0; i < chunkNotes.size(); i++) {
+      notes.append("[Part ").append(i + 1).append("]\n").append(chunkNotes.get(i)).append("\n");
+    }
+
+    return "Below are notes extracted, in order, from the consecutive parts of a long web page.\n"
+        + "Summarize the whole web page in a blog style from these notes according to the following summary conditions.\n"
+        + "Page title: " + title + "\n"
+        + "Notes:\n" + notes
+        + "(End of notes)\n"
+        + createSummaryConditions(option);
+  }
+
+  // 기존 요약을 다시 쓰는 프롬프트. 원문을 읽지 않고 어조/언어/키워드만 바꿀 때 사용
+  public static String createDerivationPrompt(SummaryOption option, String title,
+      String content) {
+    return "Below is an existing blog style summary of a web page.\n"
+        + "Rewrite it according to the following summary conditions, translating it if the summary language differs.\n"
+        + "Keep the facts and the overall length of the existing summary and do not add information that is not in it.\n"
+        + "Existing title: " + title + "\n"
+        + "Existing summary:\n" + content + "\n"
+        + "(End of existing summary)\n"
+        + createSummaryConditions(option);
+  }
+
+  // 요약 본문은 정상인데 제목만 빠진 응답을 보완하는 짧은 프롬프트
+  public static String createTitleRepairPrompt(String content) {
+    return "Recommend a title for the blog style summary below, in the same language as the summary.\n"
+        + "The title must be composed only of English letters or Hangul and be less than 30 characters, including spaces.\n"
+        + "The answer is given in json format string with title as the only key.\n"
+        + "Summary:\n" + content + "\n"
+        + "(End of summary)";
+  }
+
+  private static String createSummaryConditions(SummaryOption option) {
+    return "Please also recommend the title, composed only of English letters or Hangul, and "
+        + "ensure it is less than 30 characters, including spaces.\n"
+        + "The answer is given in json format string with title and content as keys.\n"
+        + "Translate the content into the summary language!\n"
+        + "Summary conditions: \n"
+        + "Summary length: " + option.getLevel().getLines() + "\n"
+        + "Summary tone:" + option.getTone().getValue() + "\n"
+        + "Summary language: " + option.getLanguage().getValue() + "\n"
+        + "Summary keywords: " + option.getKeywords();
+  }
+}
@@ -0,0 +1,49 @@
+package project.backend.business.post.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 스트리밍으로 들어오는 요약 응답(json)에서 title, content 값을 도착하는 대로 잘라내는 파서
+// 지금까지 받은 응답을 JsonParser 로 다시 읽고(끊긴 응답 복구 포함) 이전에 내보낸 뒤로 늘어난 부분만 반환
+// 요약 응답은 수 KB 수준이라 조각마다 처음부터 다시 읽어도 부담이 작음
+public class SummaryStreamParser {
+
+  public static final String TITLE = "title";
+  public static final String CONTENT = "content";
+
+  private static final List<String> FIELDS = List.of(TITLE, CONTENT);
+
+  private final StringBuilder buffer = new StringBuilder();
+  private final Map<String, Integer> emittedLengths = new HashMap<>();
+
+  public List<SummaryFragment> feed(String chunk) {
+    buffer.append(chunk);
+    Map<String, String> fields = JsonParser.parsePartialStringFields(buffer.toString());
+
+    List<SummaryFragment> fragments = new ArrayList<>();
+    for (String field : FIELDS) {
+      String value = fields.get(field);
+      if (value == null) {
+        continue;
+      }
+
+      int end = value.length();
+      // 서로게이트 쌍의 앞 절반만 도착했으면 나머지가 올 때까지 보류
+      if (end > 0 && Character.isHighSurrogate(value.charAt(end - 1))) {
+        end--;
+      }
+      int emitted = emittedLengths.getOrDefault(field, 0);
+      if (end > emitted) {
+        fragments.add(new SummaryFragment(field, value.substring(emitted, end)));
+        emittedLengths.put(field, end);
+      }
+    }
+    return fragments;
+  }
+
+  public record SummaryFragment(String field, String text) {
+
+  }
+}
@@ -0,0 +1,90 @@
+package project.backend.business.post.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 긴 본문을 토큰 예산 이하의 조각으로 나눔. 문단 경계를 우선으로 자르고, 너무 긴 문단만 강제로 자름
+public class TextChunker {
+
+  // 토크나이저 없이 보수적으로 추정 (영문 약 4글자당 1토큰, 한글 등 비 ASCII 문자는 1글자당 1토큰)
+  public static int estimateTokens(String text) {
+    int asciiCount = 0;
+    int nonAsciiCount = 0;
+    for (int i = 0; i < text.length(); i++) {
+      if (text.charAt(i) < 128) {
+        asciiCount++;
+      } else {
+        nonAsciiCount++;
+      }
+    }
+    return asciiCount / 4 + nonAsciiCount;
+  }
+
+  public static List<String> split(String text, int maxTokens) {
+    List<String> chunks = new ArrayList<>();
+    StringBuilder current = new StringBuilder();
+    int currentTokens = 0;
+
+    for (String paragraph : text.split("\n")) {
+      for (String piece : splitOversizedParagraph(paragraph, maxTokens)) {
+        int pieceTokens = estimateTokens(piece) + 1;
+        if (currentTokens + pieceTokens > maxTokens && !current.isEmpty()) {
+          chunks.add(current.toString().trim());
+          current.setLength(0);
+          currentTokens = 0;
+        }
+        current.append(piece).append('\n');
+        currentTokens += pieceTokens;
+      }
+    }
+
+    if (!current.toString().isBlank()) {
+      chunks.add(current.toString().trim());
+    }
+    return chunks;
+  }
+
+  // 순서를 유지한 채 이웃한 조각을 이어 붙여 maxCount 개 이하로 만듦. 조각 수는 최대한 고르게 나눔
+  public static List<String> merge(List<String> chunks, int maxCount) {
+    if (chunks.size() <= maxCount) {
+      return chunks;
+    }
+
+    List<String> merged = new ArrayList<>();
+    for (int group = 0; group < maxCount; group++) {
+      int from = group * chunks.size() / maxCount;
+      int to = (group + 1) * chunks.size() / maxCount;
+      merged.add(String.join("\n", chunks.subList(from, to)));
+    }
+    return merged;
+  }
+
+  private static List<String> splitOversizedParagraph(String paragraph, int maxTokens) {
+    if (estimateTokens(paragraph) <= maxTokens) {
+      return List.of(paragraph);
+    }
+
+    List<String> pieces = new ArrayList<>();
+    int start = 0;
+    while (start < paragraph.length()) {
+      int end = start;
+      int asciiCount = 0;
+      int nonAsciiCount = 0;
+      while (end < paragraph.length() && asciiCount / 4 + nonAsciiCount < maxTokens) {
+        if (paragraph.charAt(end) < 128) {
+          asciiCount++;
+        } else {
+          nonAsciiCount++;
+        }
+        end++;
+      }
+      int sentenceEnd = paragraph.lastIndexOf(". ", end);
+      if (end < paragraph.length() && sentenceEnd > start) {
+        end = sentenceEnd + 1;
+      }
+      pieces.add(paragraph.substring(start, end).trim());
+      start = end;
+    }
+    return pieces;
+  }
+}
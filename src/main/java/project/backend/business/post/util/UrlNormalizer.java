@@ -0,0 +1,75 @@
+package project.backend.business.post.util;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class UrlNormalizer {
+
+  private static final Set<String> TRACKING_PARAMS = Set.of("fbclid", "gclid", "igshid", "ref");
+
+  // 같은 문서를 가리키는 URL 이 같은 문자열이 되도록 정규화
+  // scheme/host 소문자화, 기본 포트/fragment/끝 슬래시/추적용 파라미터 제거, 나머지 파라미터 정렬
+  public static String normalize(String url) {
+    String trimmed = url.trim();
+    try {
+      URI uri = new URI(trimmed);
+      if (uri.getScheme() == null || uri.getHost() == null) {
+        return trimmed;
+      }
+
+      String scheme = uri.getScheme().toLowerCase(Locale.ROOT);
+      String host = uri.getHost().toLowerCase(Locale.ROOT);
+      int port = isDefaultPort(scheme, uri.getPort()) ? -1 : uri.getPort();
+
+      String path = uri.getRawPath() == null ? "" : uri.getRawPath();
+      while (path.endsWith("/")) {
+        path = path.substring(0, path.length() - 1);
+      }
+
+      StringBuilder normalized = new StringBuilder().append(scheme).append("://").append(host);
+      if (port != -1) {
+        normalized.append(':').append(port);
+      }
+      normalized.append(path);
+
+      String query = normalizeQuery(uri.getRawQuery());
+      if (!query.isEmpty()) {
+        normalized.append('?').append(query);
+      }
+      return normalized.toString();
+    } catch (URISyntaxException e) {
+      return trimmed;
+    }
+  }
+
+  // 게시글의 url_hash 컬럼 값
+  public static String hash(String url) {
+    return HashGenerator.sha256Hex(normalize(url));
+  }
+
+  private static boolean isDefaultPort(String scheme, int port) {
+    return port == -1
+        || ("http".equals(scheme) && port == 80)
+        || ("https".equals(scheme) && port == 443);
+  }
+
+  private static String normalizeQuery(String rawQuery) {
+    if (rawQuery == null || rawQuery.isBlank()) {
+      return "";
+    }
+    return Arrays.stream(rawQuery.split("&"))
+                 .filter(param -> !param.isBlank())
+                 .filter(param -> !isTrackingParam(param.split("=", 2)[0]))
+                 .sorted()
+                 .collect(Collectors.joining("&"));
+  }
+
+  private static boolean isTrackingParam(String name) {
+    String lowerName = name.toLowerCase(Locale.ROOT);
+    return lowerName.startsWith("utm_") || TRACKING_PARAMS.contains(lowerName);
+  }
+}
@@ -0,0 +1,28 @@
+package project.backend.business.tag;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import project.backend.business.tag.implement.TagSuggestManager;
+import project.backend.business.tag.response.TagSuggestResponse;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TagService {
+
+  private static final int SUGGEST_SIZE = 10;
+
+  private final TagSuggestManager tagSuggestManager;
+
+  // redis 색인에서 조회하고, 색인이 없을 때만 DB 에서 적재하므로 트랜잭션으로 묶지 않음
+  public TagSuggestResponse suggestTags(Long userId, String prefix) {
+    String trimmedPrefix = prefix.trim();
+    if (trimmedPrefix.isEmpty()) {
+      return TagSuggestResponse.from(List.of());
+    }
+    return TagSuggestResponse.from(
+        tagSuggestManager.suggest(userId, trimmedPrefix, SUGGEST_SIZE));
+  }
+}
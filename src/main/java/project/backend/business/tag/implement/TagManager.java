@@ -19,6 +19,7 @@ public class TagManager {
   private final TagReader tagReader;
   private final TagRepository tagRepository;
   private final PostTagRepository postTagRepository;
+  private final TagSuggestManager tagSuggestManager;
 
   public void updateTag(Post post, List<String> requestTagNameList) {
     Map<String, Tag> tagNameMap = tagReader.getTagNameMapByPostId(post.getId());
@@ -43,6 +44,15 @@ public class TagManager {
       List<Tag> tags = this.getOrCreateTags(newTagNameList);
       this.connectTagAndPost(tags, post);
     }
+
+    tagSuggestManager.updateUsageAfterCommit(post.getUser().getId(), newTagNameList,
+        new ArrayList<>(tagNameMap.keySet()));
+  }
+
+  // 발행된 게시글 삭제 시 자동완성 색인의 태그 사용 횟수 차감
+  public void releaseTags(Post post) {
+    tagSuggestManager.updateUsageAfterCommit(post.getUser().getId(), List.of(),
+        tagReader.readTagNamesByPostId(post.getId()));
   }
 
   private List<Tag> getOrCreateTags(List<String> newTagNameList) {
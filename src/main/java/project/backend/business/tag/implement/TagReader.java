@@ -32,6 +32,13 @@ public class TagReader {
         return tagRepository.findTagNamesByPostId(postId);
     }
 
+    public List<Long> readTagIdsByName(String name) {
+        return tagRepository.findAllByNameIn(List.of(name))
+                            .stream()
+                            .map(Tag::getId)
+                            .toList();
+    }
+
     public List<Tag> readTagByName(List<String> nameList) {
         return tagRepository.findAllByNameIn(nameList);
     }
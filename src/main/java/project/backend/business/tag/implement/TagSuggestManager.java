@@ -0,0 +1,169 @@
+package project.backend.business.tag.implement;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import project.backend.entity.post.PostStatus;
+import project.backend.repository.tag.TagRepository;
+
+// 사용자별 태그 자동완성 색인
+// tag:suggest:{userId} sorted set 에 태그 이름을 score 0 으로 넣어 사전순 범위(ZRANGEBYLEX)로 접두사 검색하고
+// tag:usage:{userId} hash 의 사용 횟수(태그가 달린 발행 게시글 수)로 정렬
+@Slf4j
+@Component
+public class TagSuggestManager {
+
+  private static final String INDEX_KEY_PREFIX = "tag:suggest:";
+  private static final String USAGE_KEY_PREFIX = "tag:usage:";
+  // 태그가 하나도 없는 사용자도 적재 여부를 알 수 있도록 사용 횟수 hash 에 넣는 표시 필드
+  private static final String LOADED_FIELD = "\u0000loaded";
+  // 사용 횟수로 다시 정렬할 접두사 일치 후보 수
+  private static final int CANDIDATE_LIMIT = 200;
+
+  private static final RedisScript<Long> UPDATE_SCRIPT = RedisScript.of(
+      new ClassPathResource("scripts/tag_usage_update.lua"), Long.class);
+  private static final RedisScript<Long> LOAD_SCRIPT = RedisScript.of(
+      new ClassPathResource("scripts/tag_suggest_load.lua"), Long.class);
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final TagRepository tagRepository;
+  private final Duration ttl;
+
+  public TagSuggestManager(StringRedisTemplate stringRedisTemplate,
+      TagRepository tagRepository,
+      @Value("${tag.suggest.ttl:604800}") long ttlSeconds) {
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.tagRepository = tagRepository;
+    this.ttl = Duration.ofSeconds(ttlSeconds);
+  }
+
+  // 자동완성은 부가 기능이므로 redis 장애 시 빈 목록 반환
+  public List<String> suggest(Long userId, String prefix, int limit) {
+    try {
+      return readSuggestions(userId, prefix, limit);
+    } catch (DataAccessException e) {
+      log.warn("[TagSuggestManager] redis 조회 실패. userId: {}, errMsg: {}", userId,
+          e.getMessage());
+      return List.of();
+    }
+  }
+
+  public void updateUsageAfterCommit(Long userId, List<String> connectedTagNames,
+      List<String> disconnectedTagNames) {
+    List<String> deltas = new ArrayList<>();
+    connectedTagNames.forEach(name -> {
+      deltas.add(name);
+      deltas.add("1");
+    });
+    disconnectedTagNames.forEach(name -> {
+      deltas.add(name);
+      deltas.add("-1");
+    });
+    if (deltas.isEmpty()) {
+      return;
+    }
+
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      update(userId, deltas);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        update(userId, deltas);
+      }
+    });
+  }
+
+  private List<String> readSuggestions(Long userId, String prefix, int limit) {
+    String indexKey = INDEX_KEY_PREFIX + userId;
+    String usageKey = USAGE_KEY_PREFIX + userId;
+    if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(usageKey))) {
+      load(userId);
+    }
+
+    byte[] rawIndexKey = indexKey.getBytes(StandardCharsets.UTF_8);
+    Set<byte[]> candidates = stringRedisTemplate.execute(
+        (RedisCallback<Set<byte[]>>) connection -> connection.zSetCommands().zRangeByLex(
+            rawIndexKey, prefixRange(prefix), Limit.limit().count(CANDIDATE_LIMIT)));
+    if (candidates == null || candidates.isEmpty()) {
+      return List.of();
+    }
+
+    List<Object> names = candidates.stream()
+                                   .map(name -> (Object) new String(name, StandardCharsets.UTF_8))
+                                   .toList();
+    List<Object> counts = stringRedisTemplate.opsForHash().multiGet(usageKey, names);
+    Map<String, Long> countMap = new HashMap<>();
+    for (int i = 0; i < names.size(); i++) {
+      Object count = counts.get(i);
+      countMap.put((String) names.get(i), count == null ? 0L : Long.parseLong(count.toString()));
+    }
+
+    return countMap.keySet()
+                   .stream()
+                   .sorted(Comparator.<String, Long>comparing(countMap::get,
+                                         Comparator.reverseOrder())
+                                     .thenComparing(Comparator.naturalOrder()))
+                   .limit(limit)
+                   .toList();
+  }
+
+  // redis 는 UTF-8 바이트 순으로 비교하므로 [prefix, prefix + 0xFF) 바이트 범위가 prefix 로 시작하는 이름
+  // (UTF-8 에는 0xFF 바이트가 없어 4바이트 문자까지 모두 포함)
+  static Range<byte[]> prefixRange(String prefix) {
+    byte[] lowerBound = prefix.getBytes(StandardCharsets.UTF_8);
+    byte[] upperBound = Arrays.copyOf(lowerBound, lowerBound.length + 1);
+    upperBound[lowerBound.length] = (byte) 0xFF;
+    return Range.rightOpen(lowerBound, upperBound);
+  }
+
+  // 실패하면 색인을 지워 다음 조회 시 DB 에서 다시 적재
+  private void update(Long userId, List<String> deltas) {
+    List<String> keys = List.of(USAGE_KEY_PREFIX + userId, INDEX_KEY_PREFIX + userId);
+    try {
+      stringRedisTemplate.execute(UPDATE_SCRIPT, keys, deltas.toArray());
+    } catch (DataAccessException e) {
+      log.warn("[TagSuggestManager] redis 갱신 실패. userId: {}, errMsg: {}", userId,
+          e.getMessage());
+      try {
+        stringRedisTemplate.delete(keys);
+      } catch (DataAccessException ignored) {
+        // redis 장애 중이면 복구 후 TTL 만료로 다시 적재
+      }
+    }
+  }
+
+  // 색인과 사용 횟수를 스크립트 하나로 적재하여 조회 중에 빈 색인이 보이거나 동시에 들어온 증감이 지워지지 않도록 함
+  // DB 집계 이후 스크립트 실행 전에 커밋된 증감은 적재 전이라 반영되지 않으며 TTL 만료 후 다시 적재될 때 맞춰짐
+  private void load(Long userId) {
+    List<String> args = new ArrayList<>();
+    args.add(String.valueOf(ttl.toSeconds()));
+    args.add(LOADED_FIELD);
+    for (Object[] row : tagRepository.countTagUsageByUserId(userId, PostStatus.PUBLISHED)) {
+      args.add((String) row[0]);
+      args.add(String.valueOf(row[1]));
+    }
+
+    stringRedisTemplate.execute(LOAD_SCRIPT,
+        List.of(USAGE_KEY_PREFIX + userId, INDEX_KEY_PREFIX + userId), args.toArray());
+  }
+}
@@ -0,0 +1,18 @@
+package project.backend.business.tag.response;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class TagSuggestResponse {
+
+  private final List<String> tagList;
+
+  public static TagSuggestResponse from(List<String> tagList) {
+    return TagSuggestResponse.builder()
+                             .tagList(tagList)
+                             .build();
+  }
+}
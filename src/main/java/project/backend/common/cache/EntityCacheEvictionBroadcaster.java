@@ -0,0 +1,121 @@
+package project.backend.common.cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import project.backend.entity.archive.Archive;
+import project.backend.entity.tag.Tag;
+
+// 2차 캐시는 서버마다 로컬(ehcache)이므로 캐시 대상 엔티티가 커밋되면 redis pub/sub 으로 다른 서버에 알려 비움
+// 자기 서버의 캐시는 hibernate 가 직접 갱신하므로 메시지를 무시
+@Slf4j
+@Component
+public class EntityCacheEvictionBroadcaster implements PostCommitInsertEventListener,
+    PostCommitUpdateEventListener, PostCommitDeleteEventListener, MessageListener {
+
+  public static final String CHANNEL = "cache:entity-evict";
+  private static final String SEPARATOR = "|";
+
+  // 다른 서버의 쿼리 캐시는 자기 서버의 update timestamp 로 무효화되지 않으므로 직접 비움
+  private static final Map<String, String> QUERY_REGIONS = Map.of(
+      Archive.class.getName(), "archive-list",
+      Tag.class.getName(), "tag-name");
+
+  private final String nodeId = UUID.randomUUID().toString();
+  private final StringRedisTemplate stringRedisTemplate;
+  private final SessionFactoryImplementor sessionFactory;
+
+  public EntityCacheEvictionBroadcaster(StringRedisTemplate stringRedisTemplate,
+      EntityManagerFactory entityManagerFactory) {
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+  }
+
+  @PostConstruct
+  void registerListeners() {
+    EventListenerRegistry registry = sessionFactory.getServiceRegistry()
+                                                   .getService(EventListenerRegistry.class);
+    registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+    registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+    registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+  }
+
+  @Override
+  public void onPostInsert(PostInsertEvent event) {
+    publish(event.getPersister(), event.getId());
+  }
+
+  @Override
+  public void onPostUpdate(PostUpdateEvent event) {
+    publish(event.getPersister(), event.getId());
+  }
+
+  @Override
+  public void onPostDelete(PostDeleteEvent event) {
+    publish(event.getPersister(), event.getId());
+  }
+
+  @Override
+  public void onPostInsertCommitFailed(PostInsertEvent event) {
+  }
+
+  @Override
+  public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+  }
+
+  @Override
+  public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+  }
+
+  @Override
+  public boolean requiresPostCommitHandling(EntityPersister persister) {
+    return persister.canWriteToCache();
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3);
+    if (parts.length != 3 || nodeId.equals(parts[0])) {
+      return;
+    }
+
+    String entityName = parts[1];
+    sessionFactory.getCache().evictEntityData(entityName, Long.valueOf(parts[2]));
+    String queryRegion = QUERY_REGIONS.get(entityName);
+    if (queryRegion != null) {
+      sessionFactory.getCache().evictQueryRegion(queryRegion);
+    }
+  }
+
+  // 전파에 실패해도 다른 서버의 캐시는 리전 TTL 이 지나면 갱신됨
+  private void publish(EntityPersister persister, Object id) {
+    if (!persister.canWriteToCache()) {
+      return;
+    }
+    try {
+      stringRedisTemplate.convertAndSend(CHANNEL,
+          String.join(SEPARATOR, nodeId, persister.getEntityName(), String.valueOf(id)));
+    } catch (DataAccessException e) {
+      log.warn("[EntityCacheEvictionBroadcaster] 캐시 무효화 전파 실패. entity: {}, id: {}, errMsg: {}",
+          persister.getEntityName(), id, e.getMessage());
+    }
+  }
+}
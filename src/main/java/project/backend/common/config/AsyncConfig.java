@@ -0,0 +1,89 @@
+package project.backend.common.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+  // 요약 작업 전용 스레드 풀. 큐가 가득 차면 즉시 거절하여 요청 스레드가 대기하지 않도록 함
+  @Bean
+  public ThreadPoolTaskExecutor summaryJobExecutor(
+      @Value("${summary.job.pool-size:8}") int poolSize,
+      @Value("${summary.job.queue-capacity:100}") int queueCapacity) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(poolSize);
+    executor.setMaxPoolSize(poolSize);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setThreadNamePrefix("summary-job-");
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(30);
+    executor.initialize();
+    return executor;
+  }
+
+  // 일괄 요약 전용 스레드 풀. 풀 크기가 동시에 진행되는 모델 호출 수의 상한
+  @Bean
+  public ThreadPoolTaskExecutor summaryBatchExecutor(
+      @Value("${summary.batch.parallelism:8}") int parallelism,
+      @Value("${summary.batch.queue-capacity:1000}") int queueCapacity) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(parallelism);
+    executor.setMaxPoolSize(parallelism);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setThreadNamePrefix("summary-batch-");
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+    executor.initialize();
+    return executor;
+  }
+
+  // 긴 문서 조각 요약 전용 스레드 풀. 요약 작업 풀 안에서 호출되므로 같은 풀을 쓰면 교착될 수 있어 분리
+  @Bean
+  public ThreadPoolTaskExecutor summaryChunkExecutor(
+      @Value("${summary.long-document.parallelism:4}") int parallelism,
+      @Value("${summary.long-document.queue-capacity:200}") int queueCapacity) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(parallelism);
+    executor.setMaxPoolSize(parallelism);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setThreadNamePrefix("summary-chunk-");
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.initialize();
+    return executor;
+  }
+
+  // 스트리밍 요약 완료 처리(제목 보완 모델 호출, 게시글 저장) 전용 스레드 풀
+  // 모델 스트림의 완료 콜백 스레드에서 블로킹 작업을 하지 않도록 넘겨받아 실행
+  @Bean
+  public ThreadPoolTaskExecutor summaryStreamExecutor(
+      @Value("${summary.stream.pool-size:8}") int poolSize,
+      @Value("${summary.stream.queue-capacity:100}") int queueCapacity) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(poolSize);
+    executor.setMaxPoolSize(poolSize);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setThreadNamePrefix("summary-stream-");
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+    executor.initialize();
+    return executor;
+  }
+
+  // 모델 호출 전용 스레드 풀. 헤징 시 첫 요청과 예비 요청이 이 풀에서 동시에 실행됨
+  @Bean
+  public ThreadPoolTaskExecutor summaryModelExecutor(
+      @Value("${summary.model.pool-size:32}") int poolSize,
+      @Value("${summary.model.queue-capacity:100}") int queueCapacity) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(poolSize);
+    executor.setMaxPoolSize(poolSize);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setThreadNamePrefix("summary-model-");
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+    executor.initialize();
+    return executor;
+  }
+}
@@ -6,9 +6,14 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import project.backend.business.post.response.dto.SummaryResultDto;
+import project.backend.common.cache.EntityCacheEvictionBroadcaster;
 import project.backend.entity.token.RefreshToken;
 
 @Configuration
@@ -35,4 +40,25 @@ public class RedisConfig {
     template.setValueSerializer(new GenericJackson2JsonRedisSerializer());
     return template;
   }
+
+  @Bean
+  public RedisTemplate<String, SummaryResultDto> summaryRedisTemplate(
+      RedisConnectionFactory redisConnectionFactory) {
+    RedisTemplate<String, SummaryResultDto> template = new RedisTemplate<>();
+    template.setConnectionFactory(redisConnectionFactory);
+    template.setKeySerializer(new StringRedisSerializer());
+    template.setValueSerializer(new Jackson2JsonRedisSerializer<>(SummaryResultDto.class));
+    return template;
+  }
+
+  @Bean
+  public RedisMessageListenerContainer redisMessageListenerContainer(
+      RedisConnectionFactory redisConnectionFactory,
+      EntityCacheEvictionBroadcaster entityCacheEvictionBroadcaster) {
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(redisConnectionFactory);
+    container.addMessageListener(entityCacheEvictionBroadcaster,
+        new ChannelTopic(EntityCacheEvictionBroadcaster.CHANNEL));
+    return container;
+  }
 }
@@ -0,0 +1,70 @@
+package project.backend.common.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.metamodel.EntityType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import project.backend.repository.schema.SchemaIndexRepository;
+
+// 엔티티 @Table(indexes) 에 선언된 인덱스 중 기존 MySQL 테이블에 없는 것을 생성
+// 인덱스만 다루고 컬럼은 추가하지 않으므로, 인덱스가 참조하는 컬럼은 ddl-auto 나 별도 DDL 로 먼저 만들어져 있어야 함
+// 게시글이 많으면 인덱스 생성이 오래 걸리므로 별도 스레드에서 생성하여 기동을 막지 않음
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SchemaIndexMigrator implements ApplicationRunner {
+
+  private final EntityManagerFactory entityManagerFactory;
+  private final SchemaIndexRepository schemaIndexRepository;
+
+  @Value("${schema.index.migrate.enabled:true}")
+  private boolean enabled;
+
+  @Override
+  public void run(ApplicationArguments args) {
+    if (!enabled) {
+      return;
+    }
+    Thread thread = new Thread(this::migrateAll, "schema-index-migrator");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  private void migrateAll() {
+    try {
+      if (!schemaIndexRepository.isMysql()) {
+        return;
+      }
+      for (EntityType<?> entityType : entityManagerFactory.getMetamodel().getEntities()) {
+        Table table = entityType.getJavaType().getAnnotation(Table.class);
+        if (table == null) {
+          continue;
+        }
+        for (Index index : table.indexes()) {
+          migrate(table.name(), index);
+        }
+      }
+    } catch (RuntimeException e) {
+      log.warn("[SchemaIndexMigrator] 인덱스 마이그레이션 실패. errMsg: {}", e.getMessage());
+    }
+  }
+
+  // 인덱스 하나가 실패해도 나머지는 계속 생성
+  private void migrate(String tableName, Index index) {
+    try {
+      if (!schemaIndexRepository.existsIndex(tableName, index.name())) {
+        schemaIndexRepository.createIndex(tableName, index.name(), index.columnList(),
+            index.unique());
+      }
+    } catch (RuntimeException e) {
+      log.warn("[SchemaIndexMigrator] 인덱스 생성 실패. table: {}, index: {}, errMsg: {}",
+          tableName, index.name(), e.getMessage());
+    }
+  }
+}
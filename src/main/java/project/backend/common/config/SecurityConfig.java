@@ -51,7 +51,9 @@ public class SecurityConfig {
             .requestMatchers("/swagger-ui/**").permitAll()
             .requestMatchers("/api-docs/**").permitAll()
             .requestMatchers(HttpMethod.POST, "/posts").permitAll()
+            .requestMatchers(HttpMethod.POST, "/posts/stream").permitAll()
             .requestMatchers(HttpMethod.GET, "/posts/*").permitAll()
+            .requestMatchers(HttpMethod.GET, "/posts/jobs/*").permitAll()
             .requestMatchers(HttpMethod.PATCH, "/posts/*/summary").permitAll()
             .anyRequest().authenticated()
         )
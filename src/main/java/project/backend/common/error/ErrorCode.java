@@ -17,9 +17,22 @@ public enum ErrorCode {
 
   // 400
   BAD_REQUEST("잘못된 요청입니다.", HttpStatus.BAD_REQUEST),
+  SEARCH_CURSOR_EXPIRED("검색 결과가 만료되었습니다. 다시 검색해주세요.", HttpStatus.BAD_REQUEST),
+
+  // 429
+  SUMMARY_RATE_LIMITED("요약 요청 한도를 초과하였습니다. 잠시 후 다시 시도해주세요.",
+      HttpStatus.TOO_MANY_REQUESTS),
 
   // 500
-  INVALID_SUMMARY("웹 사이트 요약 중 문제가 발생하였습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+  INVALID_SUMMARY("웹 사이트 요약 중 문제가 발생하였습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
+
+  // 503
+  SUMMARY_JOB_REJECTED("요약 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.",
+      HttpStatus.SERVICE_UNAVAILABLE),
+  SUMMARY_MODEL_OVERLOADED("요약 모델이 혼잡하여 처리할 수 없습니다. 잠시 후 다시 시도해주세요.",
+      HttpStatus.SERVICE_UNAVAILABLE),
+  SUMMARY_MODEL_UNAVAILABLE("요약 모델을 일시적으로 사용할 수 없습니다. 잠시 후 다시 시도해주세요.",
+      HttpStatus.SERVICE_UNAVAILABLE);
 
 
   private final String message;
@@ -7,6 +7,7 @@ import static org.springframework.http.HttpStatus.NOT_ACCEPTABLE;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 import static org.springframework.http.HttpStatus.UNSUPPORTED_MEDIA_TYPE;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -26,6 +27,7 @@ import org.springframework.web.bind.ServletRequestBindingException;
 import org.springframework.web.multipart.support.MissingServletRequestPartException;
 import org.springframework.web.servlet.NoHandlerFoundException;
 import org.springframework.web.servlet.resource.NoResourceFoundException;
+import project.backend.common.error.exception.RateLimitExceededException;
 
 
 @ControllerAdvice
@@ -36,6 +38,15 @@ public class GlobalExceptionHandler {
     return new ResponseEntity<>(response, ex.getErrorCode().getHttpStatus());
   }
 
+  // 요청 한도 초과 시 다시 시도할 수 있는 시간을 Retry-After 헤더로 전달
+  @ExceptionHandler(RateLimitExceededException.class)
+  public ResponseEntity<ErrorResponse> rateLimitExceededHandler(RateLimitExceededException ex) {
+    return ResponseEntity
+            .status(ex.getErrorCode().getHttpStatus())
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+            .body(buildResponse(ex.getErrorCode().getHttpStatus(), ex));
+  }
+
   // 클라이언트의 잘못된 요청으로 발생하는 예외 처리
   @ExceptionHandler({
           IllegalArgumentException.class,         // 잘못된 인수로 인해 발생
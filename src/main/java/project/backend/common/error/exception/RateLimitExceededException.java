@@ -0,0 +1,16 @@
+package project.backend.common.error.exception;
+
+import lombok.Getter;
+import project.backend.common.error.CustomException;
+import project.backend.common.error.ErrorCode;
+
+@Getter
+public class RateLimitExceededException extends CustomException {
+
+  private final long retryAfterSeconds;
+
+  public RateLimitExceededException(long retryAfterSeconds) {
+    super(ErrorCode.SUMMARY_RATE_LIMITED);
+    this.retryAfterSeconds = retryAfterSeconds;
+  }
+}
@@ -5,12 +5,18 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import project.backend.entity.BaseEntity;
 import project.backend.entity.user.User;
 
 @Entity
 @Getter
-@Table(name = "archive")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(name = "archive", indexes = {
+    @Index(name = "idx_archive_user_activated", columnList = "user_id, activated")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Archive extends BaseEntity {
 
@@ -0,0 +1,41 @@
+package project.backend.entity.job;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.redis.core.RedisHash;
+
+@Getter
+@Builder
+@RedisHash(value = "summaryJob", timeToLive = 3600)
+public class SummaryJob {
+
+  @Id
+  private String id;
+
+  private Long userId;
+
+  private SummaryJobStatus status;
+
+  private Long postId;
+
+  private String errorMessage;
+
+  public static SummaryJob createJob(String id, Long userId) {
+    return SummaryJob.builder()
+                     .id(id)
+                     .userId(userId)
+                     .status(SummaryJobStatus.PENDING)
+                     .build();
+  }
+
+  public void complete(Long postId) {
+    this.status = SummaryJobStatus.DONE;
+    this.postId = postId;
+  }
+
+  public void fail(String errorMessage) {
+    this.status = SummaryJobStatus.FAILED;
+    this.errorMessage = errorMessage;
+  }
+}
@@ -0,0 +1,16 @@
+package project.backend.entity.job;
+
+import lombok.Getter;
+
+@Getter
+public enum SummaryJobStatus {
+  PENDING("pending"), // 요약 대기 및 진행 중
+  DONE("done"), // 요약 및 게시글 저장 완료
+  FAILED("failed"); // 요약 실패
+
+  private final String value;
+
+  SummaryJobStatus(String value) {
+    this.value = value;
+  }
+}
@@ -8,6 +8,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -30,7 +31,15 @@ import project.backend.entity.user.User;
 @Entity
 @Getter
 @Setter
-@Table(name = "post")
+// 목록/개수/상세 조회는 모두 user_id(또는 archive_id), status, activated 동등 조건 + id 정렬
+// InnoDB 보조 인덱스는 PK(id) 를 포함하므로 인덱스 순서대로 읽고 limit 에서 멈춤
+@Table(name = "post", indexes = {
+    @Index(name = "idx_post_user_url_hash", columnList = "user_id, url_hash"),
+    @Index(name = "idx_post_user_status_activated_id",
+        columnList = "user_id, status, activated, id"),
+    @Index(name = "idx_post_user_archive_status_activated_id",
+        columnList = "user_id, archive_id, status, activated, id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Post extends BaseEntity {
 
@@ -60,6 +69,18 @@ public class Post extends BaseEntity {
   @Column(nullable = false, length = 2084)
   private String url;
 
+  // url 은 길어서 인덱스를 걸 수 없으므로 정규화한 url 의 sha-256 값으로 조회
+  @Column(columnDefinition = "CHAR(64)")
+  private String urlHash;
+
+  // 요약 당시의 요약 길이. 길이가 같으면 기존 요약에서 어조/언어만 바꿔 다시 만들 수 있음
+  @Column(length = 10)
+  private String summaryLevel;
+
+  // 요약 당시의 요약 옵션 전체(길이, 어조, 언어, 키워드)의 sha-256 값
+  @Column(columnDefinition = "CHAR(64)")
+  private String summaryOptionHash;
+
   @Column(columnDefinition = "TEXT")
   private String memo;
 
@@ -121,4 +142,10 @@ public class Post extends BaseEntity {
     this.content = content;
     this.url = url;
   }
+
+  public void updateSummarySource(String urlHash, String summaryLevel, String summaryOptionHash) {
+    this.urlHash = urlHash;
+    this.summaryLevel = summaryLevel;
+    this.summaryOptionHash = summaryOptionHash;
+  }
 }
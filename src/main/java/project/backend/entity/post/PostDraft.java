@@ -0,0 +1,36 @@
+package project.backend.entity.post;
+
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.redis.core.RedisHash;
+
+// 비로그인 요약 결과. 대부분 발행되지 않으므로 post 테이블 대신 redis 에 두고, 발행할 때 Post 로 옮김
+// post 테이블의 id 와 겹치지 않도록 음수 id 사용
+@Getter
+@Builder
+@RedisHash(value = "postDraft", timeToLive = 86400)
+public class PostDraft {
+
+  @Id
+  private Long id;
+
+  private String title;
+
+  private String content;
+
+  private String url;
+
+  private String urlHash;
+
+  private String summaryLevel;
+
+  private String summaryOptionHash;
+
+  private LocalDateTime createdAt;
+
+  public static boolean isDraftId(Long postId) {
+    return postId != null && postId < 0;
+  }
+}
@@ -10,7 +10,10 @@ import project.backend.entity.post.Post;
 
 @Entity
 @Getter
-@Table(name = "post_tag")
+@Table(name = "post_tag", indexes = {
+        @Index(name = "idx_post_tag_post_tag", columnList = "post_id, tag_id"),
+        @Index(name = "idx_post_tag_tag_post", columnList = "tag_id, post_id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class PostTag extends BaseEntity {
     @Id
@@ -5,6 +5,8 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import project.backend.entity.BaseEntity;
 
 import java.util.ArrayList;
@@ -12,7 +14,11 @@ import java.util.List;
 
 @Entity
 @Getter
-@Table(name = "tag")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(name = "tag", indexes = {
+        @Index(name = "idx_tag_name", columnList = "name")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Tag extends BaseEntity {
     @Id
@@ -4,6 +4,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -14,19 +15,29 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import project.backend.business.post.PostService;
 import project.backend.business.post.request.PostDetailServiceRequest;
 import project.backend.business.post.request.PostListServiceRequest;
+import project.backend.business.post.request.PostSearchServiceRequest;
+import project.backend.business.post.response.BatchCreatePostResponse;
 import project.backend.business.post.response.CreateUpdatePostResponse;
 import project.backend.business.post.response.PostCountResponse;
 import project.backend.business.post.response.PostDetailResponse;
 import project.backend.business.post.response.PostListResponse;
+import project.backend.business.post.response.PostSearchResponse;
+import project.backend.business.post.response.SummaryJobResponse;
 import project.backend.presentation.post.docs.PostControllerDocs;
+import project.backend.presentation.post.request.BatchSummaryUrlRequest;
 import project.backend.presentation.post.request.SummaryUrlRequest;
 import project.backend.presentation.post.request.UpdatePostRequest;
+import project.backend.presentation.post.stream.SseSummaryStreamListener;
 import project.backend.security.aop.AssignCurrentUserInfo;
 import project.backend.security.aop.AssignOrNullCurrentUserInfo;
 import project.backend.security.aop.CurrentUserInfo;
+import project.backend.security.ratelimit.SummaryRateLimit;
+import project.backend.security.ratelimit.SummaryRateLimitType;
 
 @Slf4j
 @RestController
@@ -34,28 +45,49 @@ import project.backend.security.aop.CurrentUserInfo;
 @RequestMapping("/posts")
 public class PostController implements PostControllerDocs {
 
+  private static final long SUMMARY_STREAM_TIMEOUT = 60 * 1000L;
+
   private final PostService postService;
 
   @AssignCurrentUserInfo
   @GetMapping("/count")
-  public ResponseEntity<PostCountResponse> getPostCount(CurrentUserInfo userInfo) {
-    PostCountResponse response = postService.getTotalPostCount(userInfo.getUserId());
+  public ResponseEntity<PostCountResponse> getPostCount(CurrentUserInfo userInfo,
+      @RequestParam(required = false) Long archiveId) {
+    PostCountResponse response = postService.getTotalPostCount(userInfo.getUserId(), archiveId);
     return new ResponseEntity<>(response, HttpStatus.OK);
   }
 
   @AssignCurrentUserInfo
   @GetMapping
   public ResponseEntity<PostListResponse> getPosts(CurrentUserInfo userInfo,
-      @RequestParam(required = false) Integer page,
+      @RequestParam(required = false) Long cursor,
       @RequestParam(required = false) Long archiveId,
-      @RequestParam(required = false) String search) {
-    PostListServiceRequest postListServiceRequest = PostListServiceRequest.of(page, archiveId,
+      @RequestParam(required = false) String search,
+      WebRequest webRequest) {
+    PostListServiceRequest postListServiceRequest = PostListServiceRequest.of(cursor, archiveId,
         search);
+    String eTag = postService.getPostListETag(userInfo.getUserId(), postListServiceRequest);
+    if (eTag != null && webRequest.checkNotModified(eTag)) {
+      return null;
+    }
     PostListResponse response = postService.getPosts(userInfo.getUserId(), postListServiceRequest);
     return new ResponseEntity<>(response, HttpStatus.OK);
   }
 
+  @AssignCurrentUserInfo
+  @GetMapping("/search")
+  public ResponseEntity<PostSearchResponse> searchPosts(CurrentUserInfo userInfo,
+      @RequestParam String keyword,
+      @RequestParam(required = false) String cursor) {
+    PostSearchServiceRequest postSearchServiceRequest = PostSearchServiceRequest.of(keyword,
+        cursor);
+    PostSearchResponse response = postService.searchPosts(userInfo.getUserId(),
+        postSearchServiceRequest);
+    return new ResponseEntity<>(response, HttpStatus.OK);
+  }
+
   @AssignOrNullCurrentUserInfo
+  @SummaryRateLimit(SummaryRateLimitType.SUMMARIZE)
   @PostMapping
   public ResponseEntity<CreateUpdatePostResponse> createPost(CurrentUserInfo userInfo,
       @Valid @RequestBody SummaryUrlRequest summaryUrlRequest) {
@@ -64,11 +96,54 @@ public class PostController implements PostControllerDocs {
     return new ResponseEntity<>(response, HttpStatus.OK);
   }
 
+  @AssignCurrentUserInfo
+  @SummaryRateLimit(SummaryRateLimitType.BATCH_SUMMARIZE)
+  @PostMapping("/batch")
+  public ResponseEntity<BatchCreatePostResponse> createPosts(CurrentUserInfo userInfo,
+      @Valid @RequestBody BatchSummaryUrlRequest batchSummaryUrlRequest) {
+    BatchCreatePostResponse response = postService.createPostDetails(userInfo.getUserId(),
+        batchSummaryUrlRequest.toServiceRequests());
+    return new ResponseEntity<>(response, HttpStatus.OK);
+  }
+
+  @AssignOrNullCurrentUserInfo
+  @SummaryRateLimit(SummaryRateLimitType.SUMMARIZE)
+  @PostMapping(params = "async=true")
+  public ResponseEntity<SummaryJobResponse> createPostAsync(CurrentUserInfo userInfo,
+      @Valid @RequestBody SummaryUrlRequest summaryUrlRequest) {
+    SummaryJobResponse response = postService.createPostDetailAsync(
+        userInfo.getUserId(), summaryUrlRequest.toServiceRequest());
+    return new ResponseEntity<>(response, HttpStatus.ACCEPTED);
+  }
+
+  @AssignOrNullCurrentUserInfo
+  @SummaryRateLimit(SummaryRateLimitType.SUMMARIZE)
+  @PostMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter createPostStream(CurrentUserInfo userInfo,
+      @Valid @RequestBody SummaryUrlRequest summaryUrlRequest) {
+    SseEmitter emitter = new SseEmitter(SUMMARY_STREAM_TIMEOUT);
+    postService.createPostDetailStream(userInfo.getUserId(), summaryUrlRequest.toServiceRequest(),
+        new SseSummaryStreamListener(emitter));
+    return emitter;
+  }
+
+  @AssignOrNullCurrentUserInfo
+  @GetMapping("/jobs/{jobId}")
+  public ResponseEntity<SummaryJobResponse> getSummaryJob(CurrentUserInfo userInfo,
+      @PathVariable("jobId") String jobId) {
+    SummaryJobResponse response = postService.getSummaryJob(userInfo.getUserId(), jobId);
+    return new ResponseEntity<>(response, HttpStatus.OK);
+  }
+
   @AssignOrNullCurrentUserInfo
   @GetMapping("/{id}")
   public ResponseEntity<PostDetailResponse> getPostDetail(CurrentUserInfo userInfo,
-      @PathVariable("id") Long postId, @RequestParam String status) {
+      @PathVariable("id") Long postId, @RequestParam String status, WebRequest webRequest) {
     PostDetailServiceRequest request = PostDetailServiceRequest.of(postId, status);
+    String eTag = postService.getPostDetailETag(userInfo.getUserId(), request);
+    if (eTag != null && webRequest.checkNotModified(eTag)) {
+      return null;
+    }
     PostDetailResponse response = postService.getPostDetail(userInfo.getUserId(), request);
     return new ResponseEntity<>(response, HttpStatus.OK);
   }
@@ -91,6 +166,7 @@ public class PostController implements PostControllerDocs {
   }
 
   @AssignCurrentUserInfo
+  @SummaryRateLimit(SummaryRateLimitType.RESUMMARIZE)
   @PatchMapping("/{id}/summary")
   public ResponseEntity<CreateUpdatePostResponse> updateSummaryPost(CurrentUserInfo userInfo,
       @PathVariable("id") Long postId, @Valid @RequestBody SummaryUrlRequest summaryUrlRequest) {
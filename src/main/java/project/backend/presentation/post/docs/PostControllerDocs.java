@@ -5,10 +5,16 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import project.backend.business.post.response.BatchCreatePostResponse;
 import project.backend.business.post.response.CreateUpdatePostResponse;
 import project.backend.business.post.response.PostCountResponse;
 import project.backend.business.post.response.PostDetailResponse;
 import project.backend.business.post.response.PostListResponse;
+import project.backend.business.post.response.PostSearchResponse;
+import project.backend.business.post.response.SummaryJobResponse;
+import project.backend.presentation.post.request.BatchSummaryUrlRequest;
 import project.backend.presentation.post.request.SummaryUrlRequest;
 import project.backend.presentation.post.request.UpdatePostRequest;
 import project.backend.security.aop.CurrentUserInfo;
@@ -16,20 +22,31 @@ import project.backend.security.aop.CurrentUserInfo;
 @Tag(name = "게시글 API")
 public interface PostControllerDocs {
 
-  @Operation(summary = "게시글 목록 조회 API", description = "로그인한 유저의 게시글을 최근 작성한 순서대로 조회.")
+  @Operation(summary = "게시글 목록 조회 API", description = "로그인한 유저의 게시글을 최근 작성한 순서대로 조회. If-None-Match 가 현재 ETag 와 같으면 304 응답.")
   @Parameter(name = "userInfo", hidden = true)
-  @Parameter(name = "page", description = "조회할 페이지 번호. 시작 = 0")
+  @Parameter(name = "cursor", description = "이전 응답의 nextCursor. 첫 페이지는 생략")
   @Parameter(name = "archiveId", description = "조회할 아카이브 번호.")
-  @Parameter(name = "search", description = "단순 검색: 게시글 제목 기준으로 검색. #{검색어}: 태그 검색")
+  @Parameter(name = "search", description = "단순 검색: 게시글 제목 기준으로 검색. #{태그}: 태그 이름이 정확히 일치하는 게시글 검색")
   ResponseEntity<PostListResponse> getPosts(
       CurrentUserInfo userInfo,
-      Integer page,
+      Long cursor,
       Long archiveId,
-      String search);
+      String search,
+      @Parameter(hidden = true) WebRequest webRequest);
 
-  @Operation(summary = "게시글 개수 조회 API", description = "로그인한 유저가 작성한 게시글의 총 개수 조회.")
+  @Operation(summary = "게시글 전문 검색 API", description = "로그인한 유저의 게시글 제목과 본문에서 검색하여 관련도 순으로 조회.")
   @Parameter(name = "userInfo", hidden = true)
-  ResponseEntity<PostCountResponse> getPostCount(CurrentUserInfo userInfo);
+  @Parameter(name = "keyword", description = "검색어")
+  @Parameter(name = "cursor", description = "이전 응답의 nextCursor. 첫 페이지는 생략")
+  ResponseEntity<PostSearchResponse> searchPosts(
+      CurrentUserInfo userInfo,
+      String keyword,
+      String cursor);
+
+  @Operation(summary = "게시글 개수 조회 API", description = "로그인한 유저가 작성한 게시글의 총 개수 조회. 보관함 id 를 주면 해당 보관함의 개수 조회.")
+  @Parameter(name = "userInfo", hidden = true)
+  @Parameter(name = "archiveId", description = "보관함 id. 생략하면 전체 개수")
+  ResponseEntity<PostCountResponse> getPostCount(CurrentUserInfo userInfo, Long archiveId);
 
   @Operation(summary = "요약 요청 API", description = "요약 옵션을 통해 웹사이트 요약.")
   @Parameter(name = "userInfo", hidden = true)
@@ -38,12 +55,38 @@ public interface PostControllerDocs {
       CurrentUserInfo userInfo,
       SummaryUrlRequest summaryUrlRequest);
 
-  @Operation(summary = "게시글 상세 조회 API", description = "게시글 상세 내용 조회")
+  @Operation(summary = "일괄 요약 요청 API", description = "여러 URL을 병렬로 요약하고 URL별 결과(게시글 id 또는 실패 사유) 반환. 최대 200개")
+  @Parameter(name = "userInfo", hidden = true)
+  ResponseEntity<BatchCreatePostResponse> createPosts(CurrentUserInfo userInfo,
+      BatchSummaryUrlRequest batchSummaryUrlRequest);
+
+  @Operation(summary = "비동기 요약 요청 API", description = "요약 작업을 등록하고 작업 id를 즉시 반환. (async=true)")
+  @Parameter(name = "userInfo", hidden = true)
+  ResponseEntity<SummaryJobResponse> createPostAsync(
+      @Schema(hidden = true)
+      CurrentUserInfo userInfo,
+      SummaryUrlRequest summaryUrlRequest);
+
+  @Operation(summary = "스트리밍 요약 요청 API",
+      description = "요약 결과를 SSE로 전송. title/content 이벤트로 조각을 전송하고, 저장이 끝나면 done 이벤트로 게시글 id 전송")
+  @Parameter(name = "userInfo", hidden = true)
+  SseEmitter createPostStream(
+      @Schema(hidden = true)
+      CurrentUserInfo userInfo,
+      SummaryUrlRequest summaryUrlRequest);
+
+  @Operation(summary = "요약 작업 상태 조회 API", description = "요약 작업 상태(pending/done/failed)와 생성된 게시글 id 조회")
+  @Parameter(name = "userInfo", hidden = true)
+  @Parameter(name = "jobId", description = "요약 작업 id")
+  ResponseEntity<SummaryJobResponse> getSummaryJob(CurrentUserInfo userInfo, String jobId);
+
+  @Operation(summary = "게시글 상세 조회 API", description = "게시글 상세 내용 조회. If-None-Match 가 현재 ETag 와 같으면 304 응답.")
   @Parameter(name = "userInfo", hidden = true)
   @Parameter(name = "id", description = "게시글 id")
   ResponseEntity<PostDetailResponse> getPostDetail(CurrentUserInfo userInfo, Long postId,
       @Schema(name = "status", description = "게시글 게시 여부")
-      String status);
+      String status,
+      @Parameter(hidden = true) WebRequest webRequest);
 
   @Operation(summary = "게시글 수정 API", description = "게시글 관련 정보 수정")
   @Parameter(name = "userInfo", hidden = true)
@@ -0,0 +1,31 @@
+package project.backend.presentation.post.request;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.Getter;
+import project.backend.business.post.request.CreatePostServiceRequest;
+import project.backend.security.ratelimit.SummaryRateLimitCost;
+
+@Getter
+public class BatchSummaryUrlRequest implements SummaryRateLimitCost {
+
+  @Valid
+  @NotEmpty(message = "요약할 URL 목록은 필수 값입니다.")
+  @Size(max = 200, message = "한 번에 최대 200개의 URL까지 요약할 수 있습니다.")
+  private List<SummaryUrlRequest> requests;
+
+  @JsonIgnore
+  @Override
+  public int getSummaryCount() {
+    return requests == null ? 0 : requests.size();
+  }
+
+  public List<CreatePostServiceRequest> toServiceRequests() {
+    return requests.stream()
+                   .map(SummaryUrlRequest::toServiceRequest)
+                   .toList();
+  }
+}
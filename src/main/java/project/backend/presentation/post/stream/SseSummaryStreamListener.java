@@ -0,0 +1,81 @@
+package project.backend.presentation.post.stream;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import project.backend.business.post.implement.SummaryStreamListener;
+import project.backend.common.error.ErrorCode;
+
+// 스트리밍 요약 결과를 SSE 이벤트(title, content, done, error)로 전송
+@Slf4j
+public class SseSummaryStreamListener implements SummaryStreamListener {
+
+  private static final String DONE_EVENT = "done";
+  private static final String ERROR_EVENT = "error";
+
+  private final SseEmitter emitter;
+  private final AtomicBoolean closed = new AtomicBoolean();
+  private final List<Runnable> closeCallbacks = new CopyOnWriteArrayList<>();
+
+  public SseSummaryStreamListener(SseEmitter emitter) {
+    this.emitter = emitter;
+    // 시간 초과, 연결 끊김, 정상 종료 모두 구독 해제 대상
+    emitter.onTimeout(this::close);
+    emitter.onError(e -> close());
+    emitter.onCompletion(this::close);
+  }
+
+  @Override
+  public void onFragment(String field, String text) {
+    send(SseEmitter.event().name(field).data(text, MediaType.TEXT_PLAIN));
+  }
+
+  @Override
+  public void onComplete(Long postId) {
+    send(SseEmitter.event().name(DONE_EVENT).data(Map.of("postId", postId),
+        MediaType.APPLICATION_JSON));
+    emitter.complete();
+  }
+
+  // 다시 시도하면 되는 오류(503)와 요약 실패(500)를 구분할 수 있도록 오류 코드와 상태도 함께 전송
+  @Override
+  public void onError(ErrorCode errorCode) {
+    send(SseEmitter.event().name(ERROR_EVENT).data(Map.of("code", errorCode.name(),
+        "status", errorCode.getHttpStatus().value(), "message", errorCode.getMessage()),
+        MediaType.APPLICATION_JSON));
+    emitter.complete();
+  }
+
+  @Override
+  public boolean isClosed() {
+    return closed.get();
+  }
+
+  @Override
+  public void onClose(Runnable callback) {
+    closeCallbacks.add(callback);
+    // 등록 전에 이미 닫힌 경우 (콜백은 여러 번 실행되어도 안전해야 함)
+    if (closed.get()) {
+      callback.run();
+    }
+  }
+
+  private void close() {
+    if (closed.compareAndSet(false, true)) {
+      closeCallbacks.forEach(Runnable::run);
+    }
+  }
+
+  private void send(SseEmitter.SseEventBuilder event) {
+    try {
+      emitter.send(event);
+    } catch (IOException | IllegalStateException e) {
+      log.warn("[SummaryStream] SSE 전송 실패. errMsg: {}", e.getMessage());
+    }
+  }
+}
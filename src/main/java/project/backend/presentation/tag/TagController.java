@@ -0,0 +1,30 @@
+package project.backend.presentation.tag;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import project.backend.business.tag.TagService;
+import project.backend.business.tag.response.TagSuggestResponse;
+import project.backend.presentation.tag.docs.TagControllerDocs;
+import project.backend.security.aop.AssignCurrentUserInfo;
+import project.backend.security.aop.CurrentUserInfo;
+
+@RestController
+@RequestMapping("/tags")
+@RequiredArgsConstructor
+public class TagController implements TagControllerDocs {
+
+  private final TagService tagService;
+
+  @AssignCurrentUserInfo
+  @GetMapping("/suggest")
+  public ResponseEntity<TagSuggestResponse> suggestTags(CurrentUserInfo userInfo,
+      @RequestParam String prefix) {
+    TagSuggestResponse response = tagService.suggestTags(userInfo.getUserId(), prefix);
+    return new ResponseEntity<>(response, HttpStatus.OK);
+  }
+}
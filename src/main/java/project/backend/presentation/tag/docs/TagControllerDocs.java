@@ -0,0 +1,17 @@
+package project.backend.presentation.tag.docs;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import project.backend.business.tag.response.TagSuggestResponse;
+import project.backend.security.aop.CurrentUserInfo;
+
+@Tag(name = "태그 API")
+public interface TagControllerDocs {
+
+  @Operation(summary = "태그 자동완성 API", description = "로그인한 유저가 사용한 태그 중 접두사가 일치하는 태그를 많이 사용한 순서대로 최대 10개 조회.")
+  @Parameter(name = "userInfo", hidden = true)
+  @Parameter(name = "prefix", description = "태그 접두사")
+  ResponseEntity<TagSuggestResponse> suggestTags(CurrentUserInfo userInfo, String prefix);
+}
@@ -1,17 +1,21 @@
 package project.backend.repository.archive;
 
+import jakarta.persistence.QueryHint;
 import java.util.List;
-import java.util.Optional;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import project.backend.entity.archive.Archive;
 
 @Repository
 public interface ArchiveRepository extends JpaRepository<Archive, Long> {
 
+  @QueryHints({
+      @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+      @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = "archive-list")
+  })
   List<Archive> findByUserIdAndActivatedTrue(Long userId);
 
-  Optional<Archive> findByIdAndActivatedTrue(Long archiveId);
-
   int countByUserIdAndActivatedTrue(Long userId);
 }
@@ -0,0 +1,7 @@
+package project.backend.repository.job;
+
+import org.springframework.data.repository.CrudRepository;
+import project.backend.entity.job.SummaryJob;
+
+public interface SummaryJobRedisRepository extends CrudRepository<SummaryJob, String> {
+}
@@ -0,0 +1,77 @@
+package project.backend.repository.post;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import project.backend.entity.post.Post;
+
+// 게시글 id 가 IDENTITY 라 Hibernate 는 INSERT 를 JDBC 배치로 묶지 못하므로 여러 행을 하나의 INSERT 문으로 저장
+// 드라이버 배치 설정(rewriteBatchedStatements 등)과 관계없이 ROWS_PER_STATEMENT 건당 왕복 1회
+@Repository
+@RequiredArgsConstructor
+public class PostBulkInsertRepository {
+
+  private static final int ROWS_PER_STATEMENT = 50;
+
+  private static final String INSERT_PREFIX =
+      "INSERT INTO post (user_id, title, content, type, status, url, url_hash, summary_level,"
+          + " summary_option_hash, activated, created_at) VALUES ";
+
+  private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  // 생성된 id 를 입력 순서대로 반환. 영속성 컨텍스트를 거치지 않으므로 엔티티에는 id 가 채워지지 않음
+  public List<Long> insertAll(List<Post> posts) {
+    List<Long> postIds = new ArrayList<>(posts.size());
+    for (int from = 0; from < posts.size(); from += ROWS_PER_STATEMENT) {
+      postIds.addAll(insertRows(posts.subList(from,
+          Math.min(posts.size(), from + ROWS_PER_STATEMENT))));
+    }
+    return postIds;
+  }
+
+  private List<Long> insertRows(List<Post> posts) {
+    String sql = INSERT_PREFIX + String.join(", ",
+        Collections.nCopies(posts.size(), ROW_PLACEHOLDER));
+    Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+    KeyHolder keyHolder = new GeneratedKeyHolder();
+
+    jdbcTemplate.update(connection -> {
+      PreparedStatement statement = connection.prepareStatement(sql,
+          Statement.RETURN_GENERATED_KEYS);
+      int index = 1;
+      for (Post post : posts) {
+        statement.setObject(index++, post.getUser() == null ? null : post.getUser().getId());
+        statement.setString(index++, post.getTitle());
+        statement.setString(index++, post.getContent());
+        statement.setString(index++, post.getType().getValue());
+        statement.setString(index++, post.getStatus().getValue());
+        statement.setString(index++, post.getUrl());
+        statement.setString(index++, post.getUrlHash());
+        statement.setString(index++, post.getSummaryLevel());
+        statement.setString(index++, post.getSummaryOptionHash());
+        statement.setBoolean(index++, post.getActivated());
+        statement.setTimestamp(index++, createdAt);
+      }
+      return statement;
+    }, keyHolder);
+
+    // 생성 키 컬럼 이름은 드라이버마다 다르므로(MySQL: GENERATED_KEY, H2: ID) 첫 번째 값을 사용
+    return keyHolder.getKeyList()
+                    .stream()
+                    .map(Map::values)
+                    .map(values -> ((Number) values.iterator().next()).longValue())
+                    .toList();
+  }
+}
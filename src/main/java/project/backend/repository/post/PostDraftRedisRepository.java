@@ -0,0 +1,7 @@
+package project.backend.repository.post;
+
+import org.springframework.data.repository.CrudRepository;
+import project.backend.entity.post.PostDraft;
+
+public interface PostDraftRedisRepository extends CrudRepository<PostDraft, Long> {
+}
@@ -0,0 +1,43 @@
+package project.backend.repository.post;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Repository;
+import project.backend.entity.post.Post;
+
+// 목록에 필요한 컬럼만 조회 (content, memo 등 TEXT 컬럼 제외). 태그 이름은 페이지의 게시글 id 로 따로 조회
+// 태그를 GROUP_CONCAT 으로 집계하면 MySQL 에서 group_concat_max_len(기본 1024 바이트)에서 잘리므로 집계하지 않음
+// 엔티티가 아닌 DTO 로 조회하므로 영속성 컨텍스트에 올라가지 않음
+@Repository
+@RequiredArgsConstructor
+public class PostListQueryRepository {
+
+  private final EntityManager entityManager;
+
+  public List<PostListRow> findPostListRows(Specification<Post> spec, int limit) {
+    CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+    CriteriaQuery<PostListRow> query = cb.createQuery(PostListRow.class);
+    Root<Post> root = query.from(Post.class);
+
+    query.select(cb.construct(PostListRow.class,
+             root.get("id"),
+             root.get("title"),
+             root.get("createdAt")))
+         .orderBy(cb.desc(root.get("id")));
+
+    Predicate predicate = spec.toPredicate(root, query, cb);
+    if (predicate != null) {
+      query.where(predicate);
+    }
+
+    return entityManager.createQuery(query)
+                        .setMaxResults(limit)
+                        .getResultList();
+  }
+}
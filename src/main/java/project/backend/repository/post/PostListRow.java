@@ -0,0 +1,8 @@
+package project.backend.repository.post;
+
+import java.time.LocalDateTime;
+
+// 게시글 목록 조회용 프로젝션
+public record PostListRow(Long id, String title, LocalDateTime createdAt) {
+
+}
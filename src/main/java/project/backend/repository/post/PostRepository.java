@@ -1,16 +1,22 @@
 package project.backend.repository.post;
 
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import project.backend.entity.post.Post;
 import project.backend.entity.post.PostStatus;
 
 @Repository
-public interface PostRepository extends JpaRepository<Post, Long>, JpaSpecificationExecutor {
+public interface PostRepository extends JpaRepository<Post, Long>, JpaSpecificationExecutor<Post> {
 
-  int countPostsByUserIdAndStatusAndActivatedTrue(Long userId, PostStatus status);
+  @Query("SELECT p.archive.id, COUNT(p) " +
+      "FROM Post AS p " +
+      "WHERE p.user.id = :userId AND p.status = :status AND p.activated = true " +
+      "GROUP BY p.archive.id")
+  List<Object[]> countPostsGroupByArchiveId(Long userId, PostStatus status);
 
   Optional<Post> findPostAndUserAndActivatedTrueById(Long postId);
 
@@ -21,4 +27,7 @@ public interface PostRepository extends JpaRepository<Post, Long>, JpaSpecificat
 
   Optional<Post> findPostAndArchiveByIdAndUserIdAndStatusAndActivatedTrue(Long postId, Long userId,
       PostStatus status);
+
+  Optional<Post> findFirstByUserIdAndUrlHashAndSummaryOptionHashAndActivatedTrueOrderByIdDesc(
+      Long userId, String urlHash, String summaryOptionHash);
 }
@@ -0,0 +1,5 @@
+package project.backend.repository.post;
+
+// 전문 검색 결과의 게시글 id 와 관련도 점수
+public record PostSearchHit(Long id, double score) {
+}
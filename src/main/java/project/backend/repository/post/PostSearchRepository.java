@@ -0,0 +1,102 @@
+package project.backend.repository.post;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import project.backend.entity.post.PostStatus;
+import project.backend.repository.schema.SchemaIndexRepository;
+
+// 게시글 제목/본문 전문 검색. MySQL 은 ngram 파서 FULLTEXT 인덱스, 그 외(H2)나 인덱스 생성 전에는 LIKE 로 같은 결과 형태를 흉내냄
+// 관련도 내림차순, 같은 점수는 id 내림차순으로 정렬
+@Slf4j
+@Repository
+public class PostSearchRepository {
+
+  private static final String FULLTEXT_INDEX_NAME = "ft_post_title_content";
+
+  private static final String MATCH_EXPRESSION =
+      "MATCH(p.title, p.content) AGAINST (? IN NATURAL LANGUAGE MODE)";
+
+  private static final String MYSQL_SEARCH_QUERY =
+      "SELECT s.id, s.score FROM ("
+          + " SELECT p.id AS id, " + MATCH_EXPRESSION + " AS score"
+          + " FROM post p"
+          + " WHERE p.user_id = ? AND p.status = ? AND p.activated = TRUE"
+          + " AND " + MATCH_EXPRESSION
+          + ") s WHERE s.score > 0";
+
+  private static final String FALLBACK_SEARCH_QUERY =
+      "SELECT s.id, s.score FROM ("
+          + " SELECT p.id AS id,"
+          + " CAST((CASE WHEN LOWER(p.title) LIKE ? THEN 2 ELSE 0 END)"
+          + " + (CASE WHEN LOWER(p.content) LIKE ? THEN 1 ELSE 0 END) AS DOUBLE) AS score"
+          + " FROM post p"
+          + " WHERE p.user_id = ? AND p.status = ? AND p.activated = TRUE"
+          + ") s WHERE s.score > 0";
+
+  private static final String ORDER_AND_LIMIT = " ORDER BY s.score DESC, s.id DESC LIMIT ?";
+
+  private static final RowMapper<PostSearchHit> HIT_ROW_MAPPER = (rs, rowNum) ->
+      new PostSearchHit(rs.getLong("id"), rs.getDouble("score"));
+
+  private final JdbcTemplate jdbcTemplate;
+  private final SchemaIndexRepository schemaIndexRepository;
+
+  private volatile boolean fullTextIndexReady;
+
+  public PostSearchRepository(JdbcTemplate jdbcTemplate,
+      SchemaIndexRepository schemaIndexRepository) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.schemaIndexRepository = schemaIndexRepository;
+  }
+
+  public List<PostSearchHit> search(Long userId, String keyword, int limit) {
+    List<Object> params = new ArrayList<>();
+    StringBuilder sql = new StringBuilder();
+
+    if (fullTextIndexReady) {
+      sql.append(MYSQL_SEARCH_QUERY);
+      params.add(keyword);
+      params.add(userId);
+      params.add(PostStatus.PUBLISHED.getValue());
+      params.add(keyword);
+    } else {
+      String pattern = "%" + escapeLikePattern(keyword.toLowerCase(Locale.ROOT)) + "%";
+      sql.append(FALLBACK_SEARCH_QUERY);
+      params.add(pattern);
+      params.add(pattern);
+      params.add(userId);
+      params.add(PostStatus.PUBLISHED.getValue());
+    }
+
+    sql.append(ORDER_AND_LIMIT);
+    params.add(limit);
+
+    return jdbcTemplate.query(sql.toString(), HIT_ROW_MAPPER, params.toArray());
+  }
+
+  // MySQL 에 FULLTEXT 인덱스가 있으면 이후 검색부터 MATCH 사용
+  public boolean detectFullTextIndex() {
+    fullTextIndexReady = schemaIndexRepository.isMysql()
+        && schemaIndexRepository.existsIndex("post", FULLTEXT_INDEX_NAME);
+    return fullTextIndexReady;
+  }
+
+  // ddl-auto 로는 FULLTEXT 인덱스를 만들 수 없으므로 직접 생성
+  public void createFullTextIndex() {
+    log.info("[PostSearchRepository] FULLTEXT 인덱스 생성. index: {}", FULLTEXT_INDEX_NAME);
+    jdbcTemplate.execute("ALTER TABLE post ADD FULLTEXT INDEX " + FULLTEXT_INDEX_NAME
+        + " (title, content) WITH PARSER ngram");
+    fullTextIndexReady = true;
+  }
+
+  private static String escapeLikePattern(String keyword) {
+    return keyword.replace("\\", "\\\\")
+                  .replace("%", "\\%")
+                  .replace("_", "\\_");
+  }
+}
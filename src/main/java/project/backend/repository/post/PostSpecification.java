@@ -1,11 +1,12 @@
 package project.backend.repository.post;
 
-import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import java.util.List;
 import org.springframework.data.jpa.domain.Specification;
 import project.backend.entity.post.Post;
 import project.backend.entity.post.PostStatus;
 import project.backend.entity.tag.PostTag;
-import project.backend.entity.tag.Tag;
 
 public class PostSpecification {
 
@@ -23,15 +24,25 @@ public class PostSpecification {
       if (search == null) {
         return null;
       }
-      if (search.startsWith("#")) {
-        Join<Post, PostTag> postTagJoin = root.join("postTagList");
-        Join<PostTag, Tag> tagJoin = postTagJoin.join("tag");
-        return criteriaBuilder.like(tagJoin.get("name"), "%" + search.substring(1) + "%");
-      }
       return criteriaBuilder.like(root.get("title"), "%" + search + "%");
     };
   }
 
+  // 태그 검색은 태그 id 로 exists 서브쿼리 처리 (중복 게시글 없이 post_tag 복합 인덱스로 (post_id, tag_id) 탐색)
+  public static Specification<Post> getTagIn(List<Long> tagIdList) {
+    return (root, query, criteriaBuilder) -> {
+      if (tagIdList == null) {
+        return null;
+      }
+      Subquery<Long> subquery = query.subquery(Long.class);
+      Root<PostTag> postTagRoot = subquery.from(PostTag.class);
+      subquery.select(postTagRoot.get("id"))
+              .where(criteriaBuilder.equal(postTagRoot.get("post"), root),
+                  postTagRoot.get("tag").get("id").in(tagIdList));
+      return criteriaBuilder.exists(subquery);
+    };
+  }
+
   public static Specification<Post> getArchive(Long archiveId) {
     return (root, query, criteriaBuilder) -> {
       if (archiveId == null) {
@@ -41,6 +52,20 @@ public class PostSpecification {
     };
   }
 
+  // 커서(마지막으로 조회한 게시글 id)보다 오래된 게시글만 조회
+  public static Specification<Post> getIdLessThan(Long cursor) {
+    return (root, query, criteriaBuilder) -> {
+      if (cursor == null) {
+        return null;
+      }
+      return criteriaBuilder.lessThan(root.get("id"), cursor);
+    };
+  }
+
+  public static Specification<Post> getIdIn(List<Long> postIdList) {
+    return (root, query, criteriaBuilder) -> root.get("id").in(postIdList);
+  }
+
   public static Specification<Post> getPublished() {
     return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("status"),
         PostStatus.PUBLISHED);
@@ -0,0 +1,46 @@
+package project.backend.repository.schema;
+
+import java.util.Locale;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Slf4j
+@Repository
+public class SchemaIndexRepository {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  private volatile Boolean mysql;
+
+  public SchemaIndexRepository(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  public boolean isMysql() {
+    if (mysql == null) {
+      mysql = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+          connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT)
+                    .contains("mysql"));
+    }
+    return mysql;
+  }
+
+  public boolean existsIndex(String tableName, String indexName) {
+    Integer count = jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM information_schema.statistics"
+            + " WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?",
+        Integer.class, tableName, indexName);
+    return count != null && count > 0;
+  }
+
+  // 운영 중인 테이블에 쓰기를 막지 않도록 online DDL 로 생성
+  public void createIndex(String tableName, String indexName, String columnList,
+      boolean unique) {
+    log.info("[SchemaIndexRepository] 인덱스 생성. table: {}, index: {} ({})", tableName,
+        indexName, columnList);
+    jdbcTemplate.execute("ALTER TABLE " + tableName + " ADD " + (unique ? "UNIQUE " : "") + "INDEX " + indexName
+        + " (" + columnList + "), ALGORITHM=INPLACE, LOCK=NONE");
+  }
+}
@@ -1,9 +1,13 @@
 package project.backend.repository.tag;
 
+import jakarta.persistence.QueryHint;
 import java.util.List;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import project.backend.entity.post.PostStatus;
 import project.backend.entity.tag.Tag;
 
 @Repository
@@ -11,7 +15,8 @@ public interface TagRepository extends JpaRepository<Tag, Long> {
 
   @Query("SELECT pt.post.id, t.name " +
       "FROM Tag AS t JOIN PostTag AS pt ON t = pt.tag " +
-      "WHERE pt.post.id IN :postIdList AND t.activated = true")
+      "WHERE pt.post.id IN :postIdList AND t.activated = true " +
+      "ORDER BY t.name")
   List<Object[]> findPostIdAndTagNamesByPostIdIn(List<Long> postIdList);
 
   @Query("SELECT t.name " +
@@ -19,10 +24,21 @@ public interface TagRepository extends JpaRepository<Tag, Long> {
       "WHERE pt.post.id = :postId AND t.activated = true")
   List<String> findTagNamesByPostId(Long postId);
 
+  @Query("SELECT t.name, COUNT(pt) " +
+      "FROM Tag AS t JOIN PostTag AS pt ON t = pt.tag " +
+      "WHERE pt.post.user.id = :userId AND pt.post.status = :status " +
+      "AND pt.post.activated = true AND t.activated = true " +
+      "GROUP BY t.name")
+  List<Object[]> countTagUsageByUserId(Long userId, PostStatus status);
+
   @Query("SELECT t " +
       "FROM Tag AS t JOIN PostTag AS pt ON t = pt.tag " +
       "WHERE pt.post.id = :postId AND t.activated = true")
   List<Tag> findAllByPostId(Long postId);
 
+  @QueryHints({
+      @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+      @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = "tag-name")
+  })
   List<Tag> findAllByNameIn(List<String> names);
 }
@@ -88,8 +88,18 @@ public class JwtFilter extends OncePerRequestFilter {
                                                            .equals(HttpMethod.POST.name())) {
       return true;
     }
-    // 요약본 조회하기
-    if (request.getRequestURI().matches("/posts/[0-9]+") && request.getMethod()
+    // 스트리밍 요약하기
+    if (request.getRequestURI().equals("/posts/stream") && request.getMethod()
+                                                                  .equals(HttpMethod.POST.name())) {
+      return true;
+    }
+    // 비동기 요약 작업 상태 조회하기
+    if (request.getRequestURI().matches("/posts/jobs/[^/]+") && request.getMethod()
+                                                                    .equals(HttpMethod.GET.name())) {
+      return true;
+    }
+    // 요약본 조회하기 (비로그인 요약 임시 저장본은 음수 id)
+    if (request.getRequestURI().matches("/posts/-?[0-9]+") && request.getMethod()
                                                                    .equals(HttpMethod.GET.name())) {
       return true;
     }
@@ -0,0 +1,14 @@
+package project.backend.security.ratelimit;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 요약 요청 횟수 제한. 로그인 유저는 유저 ID, 비로그인 유저는 IP 기준으로 제한
+@Retention(value = RetentionPolicy.RUNTIME)
+@Target(value = ElementType.METHOD)
+public @interface SummaryRateLimit {
+
+  SummaryRateLimitType value();
+}
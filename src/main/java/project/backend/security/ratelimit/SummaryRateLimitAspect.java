@@ -0,0 +1,52 @@
+package project.backend.security.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Before;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import project.backend.security.aop.CurrentUserInfo;
+
+// AssignCurrentUserInfoAspect 가 userId 를 채운 뒤에 실행되어야 하므로 우선순위를 한 단계 낮춤
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@RequiredArgsConstructor
+public class SummaryRateLimitAspect {
+
+  private final SummaryRateLimiter summaryRateLimiter;
+
+  @Before("@annotation(summaryRateLimit)")
+  public void consume(JoinPoint joinPoint, SummaryRateLimit summaryRateLimit) {
+    summaryRateLimiter.consume(summaryRateLimit.value(), resolveIdentity(joinPoint.getArgs()),
+        resolveCost(joinPoint.getArgs()));
+  }
+
+  // 요청 본문이 요약 수를 알려주면 그만큼 차감, 아니면 요청 1건당 1
+  private int resolveCost(Object[] args) {
+    for (Object arg : args) {
+      if (arg instanceof SummaryRateLimitCost summaryRateLimitCost) {
+        return Math.max(1, summaryRateLimitCost.getSummaryCount());
+      }
+    }
+    return 1;
+  }
+
+  private String resolveIdentity(Object[] args) {
+    for (Object arg : args) {
+      if (arg instanceof CurrentUserInfo userInfo && userInfo.getUserId() != null) {
+        return "user:" + userInfo.getUserId();
+      }
+    }
+
+    // server.forward-headers-strategy=native 로 프록시가 전달한 X-Forwarded-For 에서 복원한 클라이언트 IP
+    HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder
+        .currentRequestAttributes()).getRequest();
+    return "ip:" + request.getRemoteAddr();
+  }
+}
@@ -0,0 +1,7 @@
+package project.backend.security.ratelimit;
+
+// 한 요청으로 여러 건을 요약하는 요청 본문은 요약 수만큼 토큰을 차감
+public interface SummaryRateLimitCost {
+
+  int getSummaryCount();
+}
@@ -0,0 +1,16 @@
+package project.backend.security.ratelimit;
+
+import lombok.Getter;
+
+@Getter
+public enum SummaryRateLimitType {
+  SUMMARIZE("summarize"),
+  RESUMMARIZE("resummarize"),
+  BATCH_SUMMARIZE("batchSummarize");
+
+  private final String value;
+
+  SummaryRateLimitType(String value) {
+    this.value = value;
+  }
+}
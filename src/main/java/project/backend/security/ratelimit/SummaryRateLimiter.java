@@ -0,0 +1,90 @@
+package project.backend.security.ratelimit;
+
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import project.backend.common.error.CustomException;
+import project.backend.common.error.ErrorCode;
+import project.backend.common.error.exception.RateLimitExceededException;
+
+// redis lua 스크립트로 토큰 버킷을 원자적으로 갱신하여 서버가 여러 대여도 같은 한도를 공유
+@Slf4j
+@Component
+public class SummaryRateLimiter {
+
+  private static final String KEY_PREFIX = "summary:rate:";
+
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> TOKEN_BUCKET_SCRIPT = RedisScript.of(
+      new ClassPathResource("scripts/token_bucket.lua"), List.class);
+
+  private final StringRedisTemplate stringRedisTemplate;
+
+  private final int summarizeCapacity;
+  private final double summarizeRefillPerSecond;
+  private final int resummarizeCapacity;
+  private final double resummarizeRefillPerSecond;
+  private final int batchCapacity;
+  private final double batchRefillPerSecond;
+
+  public SummaryRateLimiter(StringRedisTemplate stringRedisTemplate,
+      @Value("${summary.rate-limit.summarize.capacity:10}") int summarizeCapacity,
+      @Value("${summary.rate-limit.summarize.refill-per-minute:10}") int summarizeRefillPerMinute,
+      @Value("${summary.rate-limit.resummarize.capacity:5}") int resummarizeCapacity,
+      @Value("${summary.rate-limit.resummarize.refill-per-minute:5}") int resummarizeRefillPerMinute,
+      @Value("${summary.rate-limit.batch.capacity:200}") int batchCapacity,
+      @Value("${summary.rate-limit.batch.refill-per-minute:20}") int batchRefillPerMinute) {
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.summarizeCapacity = summarizeCapacity;
+    this.summarizeRefillPerSecond = summarizeRefillPerMinute / 60.0;
+    this.resummarizeCapacity = resummarizeCapacity;
+    this.resummarizeRefillPerSecond = resummarizeRefillPerMinute / 60.0;
+    this.batchCapacity = batchCapacity;
+    this.batchRefillPerSecond = batchRefillPerMinute / 60.0;
+  }
+
+  // identity 는 "user:{id}" 또는 "ip:{address}", cost 는 요청이 일으키는 요약 수 (일괄 요약은 URL 수)
+  public void consume(SummaryRateLimitType type, String identity, int cost) {
+    int capacity = switch (type) {
+      case SUMMARIZE -> summarizeCapacity;
+      case RESUMMARIZE -> resummarizeCapacity;
+      case BATCH_SUMMARIZE -> batchCapacity;
+    };
+    double refillPerSecond = switch (type) {
+      case SUMMARIZE -> summarizeRefillPerSecond;
+      case RESUMMARIZE -> resummarizeRefillPerSecond;
+      case BATCH_SUMMARIZE -> batchRefillPerSecond;
+    };
+
+    // 버킷 크기보다 큰 요청은 기다려도 통과할 수 없으므로 바로 거절
+    if (cost > capacity) {
+      throw new CustomException(ErrorCode.BAD_REQUEST);
+    }
+
+    List<?> result;
+    try {
+      result = stringRedisTemplate.execute(TOKEN_BUCKET_SCRIPT,
+          List.of(KEY_PREFIX + type.getValue() + ":" + identity),
+          String.valueOf(capacity), String.valueOf(refillPerSecond), String.valueOf(cost));
+    } catch (DataAccessException e) {
+      // redis 장애로 정상 사용자까지 막지 않도록 제한 없이 통과
+      log.warn("[SummaryRateLimiter] redis 조회 실패. identity: {}, errMsg: {}", identity,
+          e.getMessage());
+      return;
+    }
+
+    if (result == null || ((Number) result.get(0)).longValue() == 1L) {
+      return;
+    }
+
+    long retryAfterMillis = ((Number) result.get(1)).longValue();
+    log.info("[SummaryRateLimiter] 요약 요청 제한. type: {}, identity: {}, retryAfterMillis: {}",
+        type.getValue(), identity, retryAfterMillis);
+    throw new RateLimitExceededException((retryAfterMillis + 999) / 1000);
+  }
+}
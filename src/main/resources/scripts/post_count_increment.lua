@@ -0,0 +1,12 @@
+-- 게시글 개수 카운터 증감: 이미 적재된 사용자 카운터만 갱신
+-- 적재 전이면 증감하지 않고 다음 조회 시 DB 에서 전체를 적재
+-- KEYS[1]: 사용자 카운터 키, ARGV: 필드, 증감값 쌍의 반복
+-- 반환: 갱신 여부(1/0)
+if redis.call('EXISTS', KEYS[1]) == 0 then
+  return 0
+end
+
+for i = 1, #ARGV, 2 do
+  redis.call('HINCRBY', KEYS[1], ARGV[i], tonumber(ARGV[i + 1]))
+end
+return 1
@@ -0,0 +1,11 @@
+-- 버전 스탬프 증가: 키가 없으면(만료/유실) 현재 시각(ms)으로 초기화하여 이전에 발급한 ETag 와 겹치지 않도록 함
+-- KEYS: 버전 키 목록, ARGV[1]: 현재 시각(ms), ARGV[2]: 만료 시간(s)
+for i = 1, #KEYS do
+  if redis.call('EXISTS', KEYS[i]) == 1 then
+    redis.call('INCR', KEYS[i])
+  else
+    redis.call('SET', KEYS[i], ARGV[1])
+  end
+  redis.call('EXPIRE', KEYS[i], tonumber(ARGV[2]))
+end
+return #KEYS
@@ -0,0 +1,21 @@
+-- 자동완성 색인 적재: 사용 횟수 hash 와 태그 이름 sorted set 을 한 번에 만들어 중간 상태가 보이지 않도록 함
+-- 다른 요청이 먼저 적재했으면 그 뒤에 반영된 증감을 덮어쓰지 않도록 아무것도 하지 않음
+-- KEYS[1]: 사용 횟수 hash, KEYS[2]: 태그 이름 sorted set (모든 score 0, 사전순 범위 조회용)
+-- ARGV[1]: TTL(초), ARGV[2]: 적재 표시 필드, 이후 태그 이름, 사용 횟수 쌍의 반복
+-- 반환: 적재 여부(1/0)
+if redis.call('EXISTS', KEYS[1]) == 1 then
+  return 0
+end
+
+redis.call('DEL', KEYS[2])
+redis.call('HSET', KEYS[1], ARGV[2], 0)
+for i = 3, #ARGV, 2 do
+  redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+  redis.call('ZADD', KEYS[2], 0, ARGV[i])
+end
+
+redis.call('EXPIRE', KEYS[1], ARGV[1])
+if #ARGV > 2 then
+  redis.call('EXPIRE', KEYS[2], ARGV[1])
+end
+return 1
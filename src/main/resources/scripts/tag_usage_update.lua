@@ -0,0 +1,19 @@
+-- 태그 사용 횟수 증감 및 자동완성 색인(sorted set) 갱신: 이미 적재된 사용자만 갱신
+-- 적재 전이면 증감하지 않고 다음 자동완성 조회 시 DB 에서 전체를 적재
+-- KEYS[1]: 사용 횟수 hash, KEYS[2]: 태그 이름 sorted set (모든 score 0, 사전순 범위 조회용)
+-- ARGV: 태그 이름, 증감값 쌍의 반복
+-- 반환: 갱신 여부(1/0)
+if redis.call('EXISTS', KEYS[1]) == 0 then
+  return 0
+end
+
+for i = 1, #ARGV, 2 do
+  local count = redis.call('HINCRBY', KEYS[1], ARGV[i], tonumber(ARGV[i + 1]))
+  if count <= 0 then
+    redis.call('HDEL', KEYS[1], ARGV[i])
+    redis.call('ZREM', KEYS[2], ARGV[i])
+  else
+    redis.call('ZADD', KEYS[2], 0, ARGV[i])
+  end
+end
+return 1
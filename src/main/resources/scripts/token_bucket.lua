@@ -0,0 +1,31 @@
+-- 토큰 버킷: 경과 시간만큼 토큰을 채운 뒤 요청한 개수만큼 차감
+-- KEYS[1]: 버킷 키, ARGV[1]: 최대 토큰 수, ARGV[2]: 초당 충전 토큰 수, ARGV[3]: 요청 토큰 수
+-- 반환: { 허용 여부(1/0), 다음 요청까지 대기 시간(ms) }
+local capacity = tonumber(ARGV[1])
+local refill_per_second = tonumber(ARGV[2])
+local requested = tonumber(ARGV[3])
+
+-- 서버마다 시계가 다를 수 있으므로 redis 서버 시간을 기준으로 계산
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'timestamp')
+local tokens = tonumber(bucket[1]) or capacity
+local timestamp = tonumber(bucket[2]) or now
+
+tokens = math.min(capacity, tokens + math.max(0, now - timestamp) * refill_per_second / 1000)
+
+local allowed = 0
+local retry_after_millis = 0
+if tokens >= requested then
+  tokens = tokens - requested
+  allowed = 1
+else
+  retry_after_millis = math.ceil((requested - tokens) * 1000 / refill_per_second)
+end
+
+redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'timestamp', now)
+-- 버킷이 가득 찰 시간이 지나면 키가 없어도 같은 결과이므로 만료
+redis.call('PEXPIRE', KEYS[1], math.ceil(capacity * 1000 / refill_per_second) + 1000)
+
+return { allowed, retry_after_millis }
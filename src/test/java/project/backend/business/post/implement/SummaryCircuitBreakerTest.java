@@ -0,0 +1,155 @@
+package project.backend.business.post.implement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import project.backend.common.error.CustomException;
+import project.backend.common.error.ErrorCode;
+
+class SummaryCircuitBreakerTest {
+
+  private static final long SLOW_CALL_MILLIS = 1_000;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Test
+  void opensWhenFailureRateReachesThreshold() {
+    SummaryCircuitBreaker breaker = createBreaker(60, 2);
+
+    succeed(breaker, 2);
+    fail(breaker, 1);
+    assertThat(isOpen()).isFalse();
+
+    fail(breaker, 1);
+    assertThat(isOpen()).isTrue();
+    assertUnavailable(breaker);
+  }
+
+  @Test
+  void staysClosedBelowMinimumCalls() {
+    SummaryCircuitBreaker breaker = createBreaker(60, 2);
+
+    fail(breaker, 3);
+
+    assertThat(isOpen()).isFalse();
+    breaker.acquirePermission();
+  }
+
+  @Test
+  void countsSlowCallsAsFailures() {
+    SummaryCircuitBreaker breaker = createBreaker(60, 2);
+
+    for (int i = 0; i < 4; i++) {
+      breaker.acquirePermission();
+      breaker.onSuccess(TimeUnit.MILLISECONDS.toNanos(SLOW_CALL_MILLIS + 1));
+    }
+
+    assertThat(isOpen()).isTrue();
+  }
+
+  // 창 크기를 넘긴 오래된 실패는 실패율에서 빠짐
+  @Test
+  void forgetsFailuresOutsideWindow() {
+    SummaryCircuitBreaker breaker = createBreaker(60, 2);
+
+    fail(breaker, 1);
+    succeed(breaker, 5);
+    fail(breaker, 1);
+
+    assertThat(isOpen()).isFalse();
+  }
+
+  @Test
+  void ignoredCallsAreNotRecorded() {
+    SummaryCircuitBreaker breaker = createBreaker(60, 2);
+
+    succeed(breaker, 2);
+    for (int i = 0; i < 10; i++) {
+      breaker.acquirePermission();
+      breaker.onIgnored();
+    }
+    fail(breaker, 1);
+
+    assertThat(isOpen()).isFalse();
+  }
+
+  @Test
+  void halfOpenAllowsLimitedTrialsAndClosesAfterSuccesses() {
+    SummaryCircuitBreaker breaker = createBreaker(0, 2);
+    fail(breaker, 4);
+    assertThat(isOpen()).isTrue();
+
+    breaker.acquirePermission();
+    breaker.acquirePermission();
+    assertUnavailable(breaker);
+
+    breaker.onSuccess(0);
+    breaker.onSuccess(0);
+    assertThat(isOpen()).isFalse();
+
+    // 다시 닫히면 이전 실패 기록 없이 새로 판정
+    fail(breaker, 3);
+    assertThat(isOpen()).isFalse();
+  }
+
+  @Test
+  void halfOpenFailureReopens() {
+    SummaryCircuitBreaker breaker = createBreaker(0, 2);
+    fail(breaker, 4);
+
+    breaker.acquirePermission();
+    breaker.onSuccess(0);
+    breaker.acquirePermission();
+    breaker.onError();
+
+    assertThat(isOpen()).isTrue();
+  }
+
+  @Test
+  void ignoredHalfOpenTrialReturnsPermit() {
+    SummaryCircuitBreaker breaker = createBreaker(0, 1);
+    fail(breaker, 4);
+
+    breaker.acquirePermission();
+    assertUnavailable(breaker);
+
+    breaker.onIgnored();
+    breaker.acquirePermission();
+    breaker.onSuccess(0);
+    assertThat(isOpen()).isFalse();
+  }
+
+  // 창 4개, 최소 4회, 실패율 50% 이상이면 차단
+  private SummaryCircuitBreaker createBreaker(long openSeconds, int halfOpenCalls) {
+    return new SummaryCircuitBreaker(meterRegistry, 4, 4, 0.5, SLOW_CALL_MILLIS, openSeconds,
+        halfOpenCalls);
+  }
+
+  private void succeed(SummaryCircuitBreaker breaker, int count) {
+    for (int i = 0; i < count; i++) {
+      breaker.acquirePermission();
+      breaker.onSuccess(0);
+    }
+  }
+
+  private void fail(SummaryCircuitBreaker breaker, int count) {
+    for (int i = 0; i < count; i++) {
+      breaker.acquirePermission();
+      breaker.onError();
+    }
+  }
+
+  private boolean isOpen() {
+    return meterRegistry.get("summary.model.circuit.open").gauge().value() == 1;
+  }
+
+  private void assertUnavailable(SummaryCircuitBreaker breaker) {
+    assertThatThrownBy(breaker::acquirePermission)
+        .isInstanceOf(CustomException.class)
+        .extracting("errorCode")
+        .isEqualTo(ErrorCode.SUMMARY_MODEL_UNAVAILABLE);
+  }
+}
@@ -0,0 +1,162 @@
+package project.backend.business.post.implement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import project.backend.common.error.CustomException;
+import project.backend.common.error.ErrorCode;
+
+class SummaryConcurrencyLimiterTest {
+
+  // 지연 판정이 테스트 실행 속도에 흔들리지 않도록 기본적으로 지연 증가는 판정하지 않음
+  private static final double NO_LATENCY_CHECK = 1e9;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Test
+  void failureDecreasesLimitMultiplicatively() {
+    SummaryConcurrencyLimiter limiter = createLimiter(10, 2, 50, 0.5, NO_LATENCY_CHECK);
+
+    limiter.release(limiter.acquire(), false);
+    assertThat(limit()).isEqualTo(5);
+
+    limiter.release(limiter.acquire(), false);
+    limiter.release(limiter.acquire(), false);
+    assertThat(limit()).isEqualTo(2);
+  }
+
+  @Test
+  void latencyAboveBaselineDecreasesLimit() {
+    SummaryConcurrencyLimiter limiter = createLimiter(10, 2, 50, 0.5, 2.0);
+    limiter.release(limiter.acquire(), true);
+
+    limiter.acquire();
+    limiter.release(System.nanoTime() - TimeUnit.SECONDS.toNanos(10), true);
+
+    assertThat(limit()).isEqualTo(5);
+  }
+
+  @Test
+  void successIncreasesLimitOnlyWhenSaturated() {
+    SummaryConcurrencyLimiter limiter = createLimiter(1, 1, 3, 0.5, NO_LATENCY_CHECK);
+
+    limiter.release(limiter.acquire(), true);
+    assertThat(limit()).isEqualTo(2);
+
+    // 한도보다 적게 쓰는 동안에는 늘리지 않음
+    limiter.release(limiter.acquire(), true);
+    assertThat(limit()).isEqualTo(2);
+
+    for (int i = 0; i < 10; i++) {
+      long first = limiter.acquire();
+      long second = limiter.acquire();
+      limiter.release(second, true);
+      limiter.release(first, true);
+    }
+    assertThat(limit()).isEqualTo(3);
+  }
+
+  @Test
+  void ignoredReleaseKeepsLimit() {
+    SummaryConcurrencyLimiter limiter = createLimiter(4, 2, 50, 0.5, 2.0);
+
+    limiter.acquire();
+    limiter.releaseIgnored();
+
+    assertThat(limit()).isEqualTo(4);
+    assertThat(gauge("summary.model.limiter.in-flight")).isZero();
+  }
+
+  @Test
+  void interruptedCallIsIgnored() {
+    SummaryConcurrencyLimiter limiter = createLimiter(4, 2, 50, 0.5, NO_LATENCY_CHECK);
+
+    try {
+      assertThatThrownBy(() -> limiter.execute(() -> {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("cancelled");
+      })).isInstanceOf(IllegalStateException.class);
+    } finally {
+      Thread.interrupted();
+    }
+
+    assertThat(limit()).isEqualTo(4);
+    assertThat(gauge("summary.model.limiter.in-flight")).isZero();
+  }
+
+  @Test
+  void failedCallThroughExecuteDecreasesLimit() {
+    SummaryConcurrencyLimiter limiter = createLimiter(4, 2, 50, 0.5, NO_LATENCY_CHECK);
+
+    assertThatThrownBy(() -> limiter.execute(() -> {
+      throw new IllegalStateException("model error");
+    })).isInstanceOf(IllegalStateException.class);
+
+    assertThat(limit()).isEqualTo(2);
+  }
+
+  @Test
+  void rejectsWhenQueueIsFull() {
+    SummaryConcurrencyLimiter limiter = new SummaryConcurrencyLimiter(meterRegistry, 1, 1, 1, 0,
+        10_000, 0.5, NO_LATENCY_CHECK);
+    limiter.acquire();
+
+    assertOverloaded(limiter);
+  }
+
+  @Test
+  void rejectsAfterMaxWait() {
+    SummaryConcurrencyLimiter limiter = new SummaryConcurrencyLimiter(meterRegistry, 1, 1, 1, 1,
+        50, 0.5, NO_LATENCY_CHECK);
+    limiter.acquire();
+
+    long startNanos = System.nanoTime();
+    assertOverloaded(limiter);
+    assertThat(System.nanoTime() - startNanos).isGreaterThanOrEqualTo(
+        TimeUnit.MILLISECONDS.toNanos(50));
+    assertThat(gauge("summary.model.limiter.queue")).isZero();
+  }
+
+  @Test
+  void waitingCallGetsReleasedPermit() throws InterruptedException {
+    SummaryConcurrencyLimiter limiter = new SummaryConcurrencyLimiter(meterRegistry, 1, 1, 1, 1,
+        10_000, 0.5, NO_LATENCY_CHECK);
+    limiter.acquire();
+
+    Thread waiter = new Thread(limiter::acquire);
+    waiter.start();
+    while (gauge("summary.model.limiter.queue") == 0) {
+      Thread.sleep(5);
+    }
+    limiter.releaseIgnored();
+    waiter.join(5_000);
+
+    assertThat(waiter.isAlive()).isFalse();
+    assertThat(gauge("summary.model.limiter.queue")).isZero();
+    assertThat(gauge("summary.model.limiter.in-flight")).isEqualTo(1);
+  }
+
+  private SummaryConcurrencyLimiter createLimiter(int initialLimit, int minLimit, int maxLimit,
+      double backoffRatio, double latencyTolerance) {
+    return new SummaryConcurrencyLimiter(meterRegistry, initialLimit, minLimit, maxLimit, 50,
+        10_000, backoffRatio, latencyTolerance);
+  }
+
+  private void assertOverloaded(SummaryConcurrencyLimiter limiter) {
+    assertThatThrownBy(limiter::acquire)
+        .isInstanceOf(CustomException.class)
+        .extracting("errorCode")
+        .isEqualTo(ErrorCode.SUMMARY_MODEL_OVERLOADED);
+  }
+
+  private double limit() {
+    return gauge("summary.model.limiter.limit");
+  }
+
+  private double gauge(String name) {
+    return meterRegistry.get(name).gauge().value();
+  }
+}
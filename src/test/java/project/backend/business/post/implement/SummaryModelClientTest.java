@@ -0,0 +1,202 @@
+package project.backend.business.post.implement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import project.backend.business.post.implement.engine.SummaryEngine;
+import project.backend.business.post.implement.engine.SummaryOutputFormat;
+import project.backend.common.error.CustomException;
+import project.backend.common.error.ErrorCode;
+import reactor.core.publisher.Flux;
+
+// 헤징 호출에서 먼저 끝난 유효한 응답을 쓰고, 진 요청과 시간 초과된 요청은 인터럽트로 취소하는지 확인
+class SummaryModelClientTest {
+
+  private static final String PRIMARY = "primary";
+  private static final String FALLBACK = "fallback";
+
+  private final FakeSummaryEngine summaryEngine = new FakeSummaryEngine();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private ThreadPoolTaskExecutor summaryModelExecutor;
+
+  @BeforeEach
+  void setUp() {
+    summaryModelExecutor = new ThreadPoolTaskExecutor();
+    summaryModelExecutor.setCorePoolSize(4);
+    summaryModelExecutor.setThreadNamePrefix("summary-model-test-");
+    summaryModelExecutor.initialize();
+  }
+
+  @AfterEach
+  void tearDown() {
+    summaryModelExecutor.shutdown();
+  }
+
+  @Test
+  void usesPrimaryWithoutHedgeWhenFast() throws InterruptedException {
+    summaryEngine.respond(PRIMARY, 0, "first");
+    summaryEngine.respond(FALLBACK, 0, "second");
+    SummaryModelClient client = createClient(100, 5_000);
+
+    assertThat(client.call("prompt", SummaryOutputFormat.JSON, Function.identity()))
+        .isEqualTo("first");
+
+    Thread.sleep(300);
+    assertThat(summaryEngine.calledModels).containsExactly(PRIMARY);
+  }
+
+  @Test
+  void hedgeWinsAndCancelsSlowPrimary() throws InterruptedException {
+    summaryEngine.respond(PRIMARY, 10_000, "first");
+    summaryEngine.respond(FALLBACK, 0, "second");
+    SummaryModelClient client = createClient(50, 5_000);
+
+    String result = client.call("prompt", SummaryOutputFormat.JSON,
+        (responseContent, primary) -> responseContent + (primary ? ":primary" : ":hedge"));
+
+    assertThat(result).isEqualTo("second:hedge");
+    assertThat(summaryEngine.awaitInterrupted(PRIMARY)).isTrue();
+  }
+
+  // 첫 요청이 실패하면 예비 요청 지연을 기다리지 않고 바로 예비 요청
+  @Test
+  void hedgesImmediatelyWhenPrimaryFails() {
+    summaryEngine.fail(PRIMARY);
+    summaryEngine.respond(FALLBACK, 0, "second");
+    SummaryModelClient client = createClient(10_000, 5_000);
+
+    long startNanos = System.nanoTime();
+    assertThat(client.call("prompt", SummaryOutputFormat.JSON, Function.identity()))
+        .isEqualTo("second");
+    assertThat(System.nanoTime() - startNanos).isLessThan(TimeUnit.SECONDS.toNanos(5));
+  }
+
+  @Test
+  void hedgesWhenPrimaryResponseIsRejectedByParser() {
+    summaryEngine.respond(PRIMARY, 0, "invalid");
+    summaryEngine.respond(FALLBACK, 0, "second");
+    SummaryModelClient client = createClient(10_000, 5_000);
+
+    String result = client.call("prompt", SummaryOutputFormat.JSON, responseContent -> {
+      if (responseContent.equals("invalid")) {
+        throw new CustomException(ErrorCode.INVALID_SUMMARY);
+      }
+      return responseContent;
+    });
+
+    assertThat(result).isEqualTo("second");
+  }
+
+  @Test
+  void throwsFirstFailureWhenBothFail() {
+    summaryEngine.fail(PRIMARY);
+    summaryEngine.fail(FALLBACK);
+    SummaryModelClient client = createClient(50, 5_000);
+
+    assertThatThrownBy(() -> client.call("prompt", SummaryOutputFormat.JSON, Function.identity()))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage(PRIMARY + " failed");
+  }
+
+  @Test
+  void timeoutCancelsRunningAttempts() throws InterruptedException {
+    summaryEngine.respond(PRIMARY, 10_000, "first");
+    summaryEngine.respond(FALLBACK, 10_000, "second");
+    SummaryModelClient client = createClient(20, 300);
+
+    assertThatThrownBy(() -> client.call("prompt", SummaryOutputFormat.JSON, Function.identity()))
+        .isInstanceOf(CustomException.class)
+        .extracting("errorCode")
+        .isEqualTo(ErrorCode.SUMMARY_MODEL_UNAVAILABLE);
+    assertThat(summaryEngine.awaitInterrupted(PRIMARY)).isTrue();
+    assertThat(summaryEngine.awaitInterrupted(FALLBACK)).isTrue();
+  }
+
+  // 취소된 요청은 모델 장애가 아니므로 차단기 실패로 세지 않음
+  @Test
+  void cancelledAttemptIsNotCountedAsFailure() throws InterruptedException {
+    SummaryCircuitBreaker summaryCircuitBreaker = new SummaryCircuitBreaker(meterRegistry, 1, 1,
+        0.5, 30_000, 60, 1);
+    summaryEngine.respond(PRIMARY, 10_000, "first");
+    summaryEngine.respond(FALLBACK, 0, "second");
+    SummaryModelClient client = createClient(summaryCircuitBreaker, 50, 5_000);
+
+    client.call("prompt", SummaryOutputFormat.JSON, Function.identity());
+    assertThat(summaryEngine.awaitInterrupted(PRIMARY)).isTrue();
+    Thread.sleep(100);
+
+    assertThat(meterRegistry.get("summary.model.circuit.open").gauge().value()).isZero();
+  }
+
+  private SummaryModelClient createClient(long hedgeDelayMillis, long timeoutMillis) {
+    return createClient(new SummaryCircuitBreaker(meterRegistry, 20, 10, 0.5, 30_000, 30, 3),
+        hedgeDelayMillis, timeoutMillis);
+  }
+
+  private SummaryModelClient createClient(SummaryCircuitBreaker summaryCircuitBreaker,
+      long hedgeDelayMillis, long timeoutMillis) {
+    SummaryConcurrencyLimiter summaryConcurrencyLimiter = new SummaryConcurrencyLimiter(
+        meterRegistry, 10, 2, 50, 50, 10_000, 0.9, 2.0);
+    return new SummaryModelClient(summaryEngine, summaryConcurrencyLimiter, summaryCircuitBreaker,
+        summaryModelExecutor, PRIMARY, FALLBACK, true, hedgeDelayMillis, timeoutMillis);
+  }
+
+  // 모델별로 정해진 시간 뒤에 응답하거나 실패. 인터럽트되면 실제 클라이언트처럼 인터럽트 상태를 남기고 실패
+  private static class FakeSummaryEngine implements SummaryEngine {
+
+    private final Map<String, Long> delays = new ConcurrentHashMap<>();
+    private final Map<String, String> responses = new ConcurrentHashMap<>();
+    private final Map<String, CountDownLatch> interrupted = new ConcurrentHashMap<>();
+    private final List<String> calledModels = new CopyOnWriteArrayList<>();
+
+    private void respond(String model, long delayMillis, String response) {
+      delays.put(model, delayMillis);
+      responses.put(model, response);
+      interrupted.put(model, new CountDownLatch(1));
+    }
+
+    private void fail(String model) {
+      delays.put(model, 0L);
+      interrupted.put(model, new CountDownLatch(1));
+    }
+
+    private boolean awaitInterrupted(String model) throws InterruptedException {
+      return interrupted.get(model).await(5, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public String call(String promptMessage, String model, SummaryOutputFormat outputFormat) {
+      calledModels.add(model);
+      try {
+        Thread.sleep(delays.get(model));
+      } catch (InterruptedException e) {
+        interrupted.get(model).countDown();
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException(model + " interrupted");
+      }
+      String response = responses.get(model);
+      if (response == null) {
+        throw new IllegalStateException(model + " failed");
+      }
+      return response;
+    }
+
+    @Override
+    public Flux<String> stream(String promptMessage, String model,
+        SummaryOutputFormat outputFormat) {
+      return Flux.error(new UnsupportedOperationException());
+    }
+  }
+}
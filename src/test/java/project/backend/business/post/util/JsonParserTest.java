@@ -0,0 +1,90 @@
+package project.backend.business.post.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import project.backend.common.error.CustomException;
+import project.backend.common.error.ErrorCode;
+
+class JsonParserTest {
+
+  @Test
+  void readsObjectInsideCodeFenceAndSentences() {
+    String text = "요약입니다.\n```json\n{\"title\": \"제목\", \"content\": \"본문\"}\n```\n끝";
+
+    Map<String, String> fields = JsonParser.parseStringFields(text);
+
+    assertThat(fields).containsEntry("title", "제목")
+                      .containsEntry("content", "본문");
+  }
+
+  @Test
+  void skipsBracesInLeadingSentence() {
+    String text = "{중괄호} 가 있는 설명 {\"title\": \"t\", \"content\": \"c\"}";
+
+    assertThat(JsonParser.parseStringFields(text)).containsEntry("title", "t")
+                                                  .containsEntry("content", "c");
+  }
+
+  @Test
+  void allowsTrailingCommaAndRawNewline() {
+    String text = "{\"title\": \"t\", \"content\": \"첫 줄\n둘째 줄\",}";
+
+    assertThat(JsonParser.parseStringFields(text)).containsEntry("content", "첫 줄\n둘째 줄");
+  }
+
+  @Test
+  void keepsOnlyTopLevelStringFields() {
+    String text = "{\"title\": \"t\", \"tags\": [\"a\"], \"meta\": {\"title\": \"x\"}, \"n\": 1}";
+
+    assertThat(JsonParser.parseStringFields(text)).containsOnlyKeys("title")
+                                                  .containsEntry("title", "t");
+  }
+
+  @Test
+  void recoversValueTruncatedInsideString() {
+    String text = "{\"title\": \"t\", \"content\": \"잘린 본";
+
+    assertThat(JsonParser.parseStringFields(text)).containsEntry("title", "t")
+                                                  .containsEntry("content", "잘린 본");
+  }
+
+  @Test
+  void recoversObjectTruncatedBetweenTokens() {
+    assertThat(JsonParser.parseStringFields("{\"title\": \"t\", \"content\":"))
+        .containsEntry("title", "t")
+        .containsEntry("content", "");
+    assertThat(JsonParser.parseStringFields("{\"title\": \"t\", \"con"))
+        .containsEntry("title", "t");
+    assertThat(JsonParser.parseStringFields("{\"title\": \"t\",")).containsEntry("title", "t");
+  }
+
+  @Test
+  void dropsEscapeCutInHalf() {
+    assertThat(JsonParser.parseStringFields("{\"content\": \"a\\"))
+        .containsEntry("content", "a");
+    assertThat(JsonParser.parseStringFields("{\"content\": \"a\\u00"))
+        .containsEntry("content", "a");
+    // 짝수 개의 역슬래시는 완성된 escape
+    assertThat(JsonParser.parseStringFields("{\"content\": \"a\\\\"))
+        .containsEntry("content", "a\\");
+  }
+
+  @Test
+  void failsWhenNoObject() {
+    assertThatThrownBy(() -> JsonParser.parseStringFields("요약할 수 없습니다."))
+        .isInstanceOf(CustomException.class)
+        .extracting("errorCode")
+        .isEqualTo(ErrorCode.INVALID_SUMMARY);
+    assertThatThrownBy(() -> JsonParser.parseStringFields(null))
+        .isInstanceOf(CustomException.class);
+  }
+
+  @Test
+  void partialParseReturnsEmptyBeforeObjectStarts() {
+    assertThat(JsonParser.parsePartialStringFields("```json\n")).isEmpty();
+    assertThat(JsonParser.parsePartialStringFields("```json\n{\"ti")).doesNotContainKey("title");
+  }
+}
@@ -0,0 +1,48 @@
+package project.backend.business.post.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import project.backend.common.error.CustomException;
+import project.backend.common.error.ErrorCode;
+
+class SearchCursorCodecTest {
+
+  @Test
+  void roundTrips() {
+    SearchCursor cursor = new SearchCursor("3f2b9c0e-1d7a-4e55-9a61-0c2f7b1e8d44", 40);
+
+    String encoded = SearchCursorCodec.encode(cursor);
+
+    assertThat(encoded).matches("[A-Za-z0-9_-]+");
+    assertThat(SearchCursorCodec.decode(encoded)).isEqualTo(cursor);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"search", "search:", ":10", "search:-1", "search:abc", "search:1:2"})
+  void rejectsMalformedPayload(String raw) {
+    String cursor = Base64.getUrlEncoder()
+                          .withoutPadding()
+                          .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+
+    assertBadRequest(cursor);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"", "!!!", "a+b/c="})
+  void rejectsInvalidBase64(String cursor) {
+    assertBadRequest(cursor);
+  }
+
+  private void assertBadRequest(String cursor) {
+    assertThatThrownBy(() -> SearchCursorCodec.decode(cursor))
+        .isInstanceOf(CustomException.class)
+        .extracting("errorCode")
+        .isEqualTo(ErrorCode.BAD_REQUEST);
+  }
+}
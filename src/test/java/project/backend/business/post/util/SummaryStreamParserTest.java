@@ -0,0 +1,50 @@
+package project.backend.business.post.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import project.backend.business.post.util.SummaryStreamParser.SummaryFragment;
+
+class SummaryStreamParserTest {
+
+  // 한 글자씩 잘라 보내도 이어 붙인 조각이 최종 값과 같아야 함 (escape, 서로게이트 쌍 포함)
+  @Test
+  void fragmentsAddUpToFinalValues() {
+    String response = "```json\n{\"title\": \"제목 \\\"인용\\\"\", "
+        + "\"content\": \"첫 줄\\n둘째 줄 \\u00e9 😀 끝\"}\n```";
+
+    Map<String, StringBuilder> received = feedEachChar(response);
+
+    assertThat(received.get(SummaryStreamParser.TITLE)).hasToString("제목 \"인용\"");
+    assertThat(received.get(SummaryStreamParser.CONTENT))
+        .hasToString("첫 줄\n둘째 줄 é 😀 끝");
+  }
+
+  @Test
+  void emitsNothingUntilValueArrives() {
+    SummaryStreamParser parser = new SummaryStreamParser();
+
+    assertThat(parser.feed("{\"title\": ")).isEmpty();
+    assertThat(parser.feed("\"ab")).containsExactly(
+        new SummaryFragment(SummaryStreamParser.TITLE, "ab"));
+    assertThat(parser.feed("\\")).isEmpty();
+    assertThat(parser.feed("nc\"")).containsExactly(
+        new SummaryFragment(SummaryStreamParser.TITLE, "\nc"));
+  }
+
+  private Map<String, StringBuilder> feedEachChar(String response) {
+    SummaryStreamParser parser = new SummaryStreamParser();
+    Map<String, StringBuilder> received = new HashMap<>();
+    for (int i = 0; i < response.length(); i++) {
+      for (SummaryFragment fragment : parser.feed(String.valueOf(response.charAt(i)))) {
+        assertThat(Character.isHighSurrogate(
+            fragment.text().charAt(fragment.text().length() - 1))).isFalse();
+        received.computeIfAbsent(fragment.field(), field -> new StringBuilder())
+                .append(fragment.text());
+      }
+    }
+    return received;
+  }
+}
@@ -0,0 +1,49 @@
+package project.backend.business.tag.implement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Range;
+
+// ZRANGEBYLEX 에 넘기는 접두사 범위가 redis 의 바이트 비교에서 접두사로 시작하는 이름만 포함하는지 확인
+class TagSuggestManagerTest {
+
+  // 1~4바이트 문자와 각 바이트 길이의 최댓값(U+007F, U+07FF, U+FFFF, U+10FFFF)을 섞은 이름
+  private static final List<String> NAMES = List.of("", "a", "ab", "abc", "abz", "ac", "b",
+      "a\u007F", "\u07FF", "자", "자바", "자바스크립트", "자바\uFFFF", "자바\uDBFF\uDFFF", "자박", "잡",
+      "재", "스프링", "🍀", "🍀봄", "🍁", "\uDBFF\uDFFF", "\uDBFF\uDFFFz");
+
+  @Test
+  void includesExactlyNamesStartingWithPrefix() {
+    for (String prefix : List.of("", "a", "ab", "자", "자바", "🍀", "\uDBFF\uDFFF")) {
+      Range<byte[]> range = TagSuggestManager.prefixRange(prefix);
+
+      for (String name : NAMES) {
+        assertThat(contains(range, name))
+            .as("prefix: %s, name: %s", prefix, name)
+            .isEqualTo(name.startsWith(prefix));
+      }
+    }
+  }
+
+  @Test
+  void includesPrefixItselfAndExcludesUpperBound() {
+    Range<byte[]> range = TagSuggestManager.prefixRange("자바");
+
+    assertThat(range.getLowerBound().isInclusive()).isTrue();
+    assertThat(range.getUpperBound().isInclusive()).isFalse();
+    assertThat(range.getLowerBound().getValue()).contains("자바".getBytes(StandardCharsets.UTF_8));
+  }
+
+  // redis 는 멤버를 부호 없는 바이트 순(memcmp)으로 비교
+  private boolean contains(Range<byte[]> range, String name) {
+    byte[] member = name.getBytes(StandardCharsets.UTF_8);
+    byte[] lowerBound = range.getLowerBound().getValue().orElseThrow();
+    byte[] upperBound = range.getUpperBound().getValue().orElseThrow();
+    return Arrays.compareUnsigned(member, lowerBound) >= 0
+        && Arrays.compareUnsigned(member, upperBound) < 0;
+  }
+}
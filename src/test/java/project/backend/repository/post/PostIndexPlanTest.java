@@ -0,0 +1,235 @@
+package project.backend.repository.post;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.IntStream;
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.domain.Specification;
+import project.backend.entity.archive.Archive;
+import project.backend.entity.post.Post;
+import project.backend.entity.post.PostStatus;
+import project.backend.entity.tag.PostTag;
+import project.backend.entity.tag.Tag;
+import project.backend.entity.user.User;
+import project.backend.repository.archive.ArchiveRepository;
+import project.backend.repository.tag.TagRepository;
+
+// 게시글 주요 조회 쿼리의 실행 계획이 선언한 복합 인덱스를 타는지 확인
+// 직접 작성한 SQL 이 아니라 리포지토리 호출 시 Hibernate 가 실제로 생성한 SQL 을 캡처하여 EXPLAIN
+@DataJpaTest
+@Import(PostListQueryRepository.class)
+class PostIndexPlanTest {
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private SqlCapture sqlCapture;
+
+  @Autowired
+  private PostRepository postRepository;
+
+  @Autowired
+  private PostListQueryRepository postListQueryRepository;
+
+  @Autowired
+  private TagRepository tagRepository;
+
+  @Autowired
+  private ArchiveRepository archiveRepository;
+
+  private User user;
+  private Archive archive;
+  private Post post;
+  private Tag tag;
+
+  // 옵티마이저가 실제와 비슷한 선택도로 판단하도록 여러 보관함에 게시글과 태그를 나누어 저장 후 통계 갱신
+  @BeforeEach
+  void setUp() {
+    user = User.createUser("user@someup.com", "user", null);
+    entityManager.persist(user);
+
+    List<Archive> archiveList = IntStream.range(0, 20)
+                                         .mapToObj(i -> Archive.createArchive(user, "archive" + i))
+                                         .toList();
+    archiveList.forEach(entityManager::persist);
+
+    List<Tag> tagList = IntStream.range(0, 40)
+                                 .mapToObj(i -> Tag.createTag("tag" + i))
+                                 .toList();
+    tagList.forEach(entityManager::persist);
+
+    List<Post> postList = new ArrayList<>();
+    for (int i = 0; i < 400; i++) {
+      Post newPost = Post.createPost(user, "title" + i, "content" + i, PostStatus.PUBLISHED,
+          "https://someup.com/" + i);
+      newPost.setArchive(archiveList.get(i % archiveList.size()));
+      entityManager.persist(newPost);
+      entityManager.persist(PostTag.create(newPost, tagList.get(i % tagList.size())));
+      postList.add(newPost);
+    }
+    entityManager.flush();
+    entityManager.createNativeQuery("ANALYZE").executeUpdate();
+    entityManager.clear();
+
+    archive = archiveList.get(0);
+    post = postList.get(0);
+    tag = tagList.get(0);
+    sqlCapture.clear();
+  }
+
+  @Test
+  void postListUsesUserStatusActivatedIndex() {
+    postListQueryRepository.findPostListRows(listSpec(null, null), 11);
+
+    String plan = explainCapturedQuery();
+
+    assertThat(plan).contains("idx_post_user_status_activated_id");
+  }
+
+  @Test
+  void postListTagLookupUsesPostTagIndex() {
+    tagRepository.findPostIdAndTagNamesByPostIdIn(List.of(post.getId(), post.getId() + 1));
+
+    String plan = explainCapturedQuery();
+
+    assertThat(plan).contains("idx_post_tag_post_tag");
+  }
+
+  @Test
+  void archivePostListUsesUserArchiveStatusActivatedIndex() {
+    postListQueryRepository.findPostListRows(listSpec(archive.getId(), null), 11);
+
+    String plan = explainCapturedQuery();
+
+    assertThat(plan).contains("idx_post_user_archive_status_activated_id");
+  }
+
+  // 상관 서브쿼리라 게시글마다 (post_id, tag_id) 로 찾으므로 두 post_tag 인덱스 중 어느 쪽이든 tag_id 까지 탐색해야 함
+  @Test
+  void tagFilterSeeksPostTagIndex() {
+    postListQueryRepository.findPostListRows(listSpec(null, List.of(tag.getId())), 11);
+
+    String plan = explainCapturedQuery();
+
+    assertThat(plan).containsPattern("idx_post_tag_(post_tag|tag_post): tag_id = \\?");
+  }
+
+  @Test
+  void postCountUsesUserStatusActivatedIndex() {
+    postRepository.countPostsGroupByArchiveId(user.getId(), PostStatus.PUBLISHED);
+
+    String plan = explainCapturedQuery();
+
+    assertThat(plan).contains("idx_post_user_status_activated_id");
+  }
+
+  @Test
+  void postDetailUsesPrimaryKey() {
+    postRepository.findPostAndArchiveByIdAndUserIdAndStatusAndActivatedTrue(post.getId(),
+        user.getId(), PostStatus.PUBLISHED);
+
+    String plan = explainCapturedQuery();
+
+    assertThat(plan).contains("primary_key");
+  }
+
+  @Test
+  void postTagLookupUsesPostTagIndex() {
+    tagRepository.findTagNamesByPostId(post.getId());
+
+    String plan = explainCapturedQuery();
+
+    assertThat(plan).contains("idx_post_tag_post_tag");
+  }
+
+  @Test
+  void tagNameLookupUsesTagNameIndex() {
+    tagRepository.findAllByNameIn(List.of("tag1", "tag2"));
+
+    String plan = explainCapturedQuery();
+
+    assertThat(plan).contains("idx_tag_name");
+  }
+
+  @Test
+  void archiveListUsesUserActivatedIndex() {
+    archiveRepository.findByUserIdAndActivatedTrue(user.getId());
+
+    String plan = explainCapturedQuery();
+
+    assertThat(plan).contains("idx_archive_user_activated");
+  }
+
+  // PostService.getPosts 와 같은 순서로 조건 조합
+  private Specification<Post> listSpec(Long archiveId, List<Long> tagIdList) {
+    return Specification.where(PostSpecification.getUser(user.getId()))
+                        .and(PostSpecification.getIdLessThan(1000L))
+                        .and(PostSpecification.getArchive(archiveId))
+                        .and(PostSpecification.getTagIn(tagIdList))
+                        .and(PostSpecification.getPublished())
+                        .and(PostSpecification.getActivated());
+  }
+
+  // H2 는 EXPLAIN 에서 파라미터 값 없이도 실행 계획을 보여주므로 캡처한 SQL 을 그대로 사용
+  private String explainCapturedQuery() {
+    assertThat(sqlCapture.getStatements()).hasSize(1);
+    String sql = sqlCapture.getStatements().get(0);
+    return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+      try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql);
+          ResultSet resultSet = statement.executeQuery()) {
+        resultSet.next();
+        return resultSet.getString(1).toLowerCase(Locale.ROOT);
+      }
+    });
+  }
+
+  static class SqlCapture implements StatementInspector {
+
+    private final List<String> statements = new ArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+      statements.add(sql);
+      return sql;
+    }
+
+    List<String> getStatements() {
+      return statements;
+    }
+
+    void clear() {
+      statements.clear();
+    }
+  }
+
+  @TestConfiguration
+  static class SqlCaptureConfig {
+
+    @Bean
+    SqlCapture sqlCapture() {
+      return new SqlCapture();
+    }
+
+    @Bean
+    HibernatePropertiesCustomizer sqlCaptureCustomizer(SqlCapture sqlCapture) {
+      return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlCapture);
+    }
+  }
+}
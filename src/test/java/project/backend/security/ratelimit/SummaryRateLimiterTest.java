@@ -0,0 +1,96 @@
+package project.backend.security.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import project.backend.common.error.CustomException;
+import project.backend.common.error.ErrorCode;
+import project.backend.common.error.exception.RateLimitExceededException;
+
+// token_bucket.lua 의 결과 { 허용 여부, 대기 시간(ms) } 를 Retry-After 초로 바꾸는 부분과 스크립트 인자 확인
+class SummaryRateLimiterTest {
+
+  private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+  private final SummaryRateLimiter summaryRateLimiter = new SummaryRateLimiter(
+      stringRedisTemplate, 10, 10, 5, 5, 200, 20);
+
+  @Test
+  void passesWhenAllowed() {
+    givenScriptResult(List.of(1L, 0L));
+
+    assertThatCode(() -> summaryRateLimiter.consume(SummaryRateLimitType.SUMMARIZE, "user:1", 1))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void passesCapacityAndPerSecondRefillToScript() {
+    givenScriptResult(List.of(1L, 0L));
+
+    summaryRateLimiter.consume(SummaryRateLimitType.BATCH_SUMMARIZE, "ip:10.0.0.1", 30);
+
+    verify(stringRedisTemplate).execute(any(RedisScript.class),
+        eq(List.of("summary:rate:"
+            + SummaryRateLimitType.BATCH_SUMMARIZE.getValue() + ":ip:10.0.0.1")),
+        eq("200"),
+        eq(String.valueOf(20 / 60.0)),
+        eq("30"));
+  }
+
+  // 대기 시간은 초 단위로 올림하여 Retry-After 전에 다시 요청해 또 거절되는 일이 없도록 함
+  @Test
+  void roundsRetryAfterUpToSeconds() {
+    assertThat(retryAfterSeconds(1L)).isEqualTo(1);
+    assertThat(retryAfterSeconds(1_000L)).isEqualTo(1);
+    assertThat(retryAfterSeconds(1_001L)).isEqualTo(2);
+    // 1분에 10개 충전이면 토큰 1개에 6초
+    assertThat(retryAfterSeconds(6_000L)).isEqualTo(6);
+  }
+
+  @Test
+  void rejectsCostAboveCapacityWithoutRedis() {
+    assertThatThrownBy(
+        () -> summaryRateLimiter.consume(SummaryRateLimitType.RESUMMARIZE, "user:1", 6))
+        .isInstanceOf(CustomException.class)
+        .extracting("errorCode")
+        .isEqualTo(ErrorCode.BAD_REQUEST);
+    verifyNoInteractions(stringRedisTemplate);
+  }
+
+  @Test
+  void passesWhenRedisFails() {
+    when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+        .thenThrow(new RedisConnectionFailureException("down"));
+
+    assertThatCode(() -> summaryRateLimiter.consume(SummaryRateLimitType.SUMMARIZE, "user:1", 1))
+        .doesNotThrowAnyException();
+  }
+
+  private long retryAfterSeconds(long retryAfterMillis) {
+    givenScriptResult(List.of(0L, retryAfterMillis));
+    try {
+      summaryRateLimiter.consume(SummaryRateLimitType.SUMMARIZE, "user:1", 1);
+    } catch (RateLimitExceededException e) {
+      return e.getRetryAfterSeconds();
+    }
+    throw new AssertionError("요청이 제한되지 않음");
+  }
+
+  @SuppressWarnings("unchecked")
+  private void givenScriptResult(List<Long> result) {
+    when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+        .thenReturn(result);
+  }
+}